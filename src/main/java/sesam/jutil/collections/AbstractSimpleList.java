@@ -0,0 +1,181 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+/**
+ * Common base of reduced {@link List} implementations. <br />
+ *
+ * <p>Implements iteration with {@link SimpleListIterator}, search helpers based on
+ * {@link List#indexOf(Object)} and all list modification methods that are not
+ * supported by {@link SimpleList} like lists. Any of these methods throws
+ * {@link UnsupportedOperationException}.</p>
+ *
+ * <p>{@link #equals(Object)} and {@link #hashCode()} follow {@link List} contract,
+ * so different implementations with equal elements are equal.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+abstract class AbstractSimpleList<E> implements List<E> {
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object o : c) {
+            if (indexOf(o) == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@link List#equals(Object)} contract, compares elements with {@link Objects#equals(Object, Object)}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof List<?> other)) {
+            return false;
+        }
+        int size = size();
+        if (size != other.size()) {
+            return false;
+        }
+        Iterator<?> iterator = other.iterator();
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(get(i), iterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@link List#hashCode()} contract.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0, size = size(); i < size; i++) {
+            hash = 31 * hash + Objects.hashCode(get(i));
+        }
+        return hash;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return new SimpleListIterator<>(index, this);
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,161 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Common base of bounded lock free queues with single consumer. <br />
+ *
+ * <p>Elements are stored in power of two sized array, a slot is addressed by
+ * sequence value masked with <code>capacity - 1</code>. A slot is empty while it
+ * contains <code>null</code>, producer publishes element with release store
+ * and consumer takes it with acquire load. Consumer side ({@link #poll()},
+ * {@link #drainTo(SimpleList, int)}) is implemented here, producer side
+ * ({@link #offer(Object)}) by subclasses.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+abstract class AbstractSimpleQueue<E> extends QueuePadding.Pad2 {
+
+    static final VarHandle PRODUCER_INDEX;
+    static final VarHandle CONSUMER_INDEX;
+    static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(QueuePadding.ProducerSequence.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(QueuePadding.ConsumerSequence.class, "consumerIndex", long.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final Object[] buffer;
+    final int mask;
+
+    /**
+     * @param capacity maximal amount of queued elements, rounded up to the next power of two
+     */
+    AbstractSimpleQueue(int capacity) {
+        super();
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(String.format("Invalid capacity: [%s]", capacity));
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new Object[size];
+        mask = size - 1;
+    }
+
+    final int offset(long index) {
+        return (int) index & mask;
+    }
+
+    /**
+     * Inserts element if queue is not full.
+     *
+     * @return false if queue is full
+     * @throws NullPointerException if element is null
+     */
+    public abstract boolean offer(E e);
+
+    /**
+     * Consumer thread only.
+     *
+     * @return the oldest element or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long index = (long) CONSUMER_INDEX.get(this);
+        int offset = offset(index);
+        Object e = ELEMENTS.getAcquire(buffer, offset);
+        if (e == null) {
+            if (index == (long) PRODUCER_INDEX.getVolatile(this)) {
+                return null;
+            }
+            // producer claimed the slot but did not publish the element yet
+            do {
+                Thread.onSpinWait();
+                e = ELEMENTS.getAcquire(buffer, offset);
+            }
+            while (e == null);
+        }
+        buffer[offset] = null;
+        CONSUMER_INDEX.setRelease(this, index + 1);
+        return (E) e;
+    }
+
+    /**
+     * Moves up to <code>max</code> published elements into target list, consumer thread only.
+     * Published elements are counted first, target list reserves place for them once and
+     * takes them with at most two bulk copies, one per wrap around of the internal array.
+     * Consumer sequence is published once per batch.
+     *
+     * @return amount of moved elements
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(SimpleList<? super E> target, int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException(String.format("Invalid max value: [%s]", max));
+        }
+        long index = (long) CONSUMER_INDEX.get(this);
+        int limit = Math.min(max, buffer.length);
+        int drained = 0;
+        while (drained < limit && ELEMENTS.getAcquire(buffer, offset(index + drained)) != null) {
+            drained = drained + 1;
+        }
+        if (drained == 0) {
+            return 0;
+        }
+        target.reserve(drained);
+        E[] elements = (E[]) buffer;
+        int offset = offset(index);
+        int first = Math.min(drained, buffer.length - offset);
+        target.addAll(elements, offset, offset + first);
+        Arrays.fill(buffer, offset, offset + first, null);
+        if (first < drained) {
+            target.addAll(elements, 0, drained - first);
+            Arrays.fill(buffer, 0, drained - first, null);
+        }
+        CONSUMER_INDEX.setRelease(this, index + drained);
+        return drained;
+    }
+
+    /**
+     * Moves all published elements into target list, consumer thread only.
+     *
+     * @return amount of moved elements
+     */
+    public int drainTo(SimpleList<? super E> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return maximal amount of queued elements
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * @return amount of queued elements, only an estimate while other threads modify the queue
+     */
+    public int size() {
+        long consumer = (long) CONSUMER_INDEX.getVolatile(this);
+        long producer = (long) PRODUCER_INDEX.getVolatile(this);
+        return (int) Math.max(0, Math.min(producer - consumer, buffer.length));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+}
@@ -0,0 +1,137 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Binary codec of single list element, used by {@link SimpleListSerialization}. <br />
+ *
+ * <p>Built in codecs reject <code>null</code> elements, wrap them with
+ * {@link #nullable(ElementCodec)} to allow <code>null</code>.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Upper bound of bytes allocated from string length before string bytes are read.
+     */
+    int MAX_STRING_RESERVE = 1 << 16;
+
+    /**
+     * Four bytes big endian <code>int</code>.
+     */
+    ElementCodec<Integer> INTEGER = new ElementCodec<>() {
+
+        @Override
+        public void write(DataOutput out, Integer e) throws IOException {
+            out.writeInt(e);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /**
+     * Eight bytes big endian <code>long</code>.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+
+        @Override
+        public void write(DataOutput out, Long e) throws IOException {
+            out.writeLong(e);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /**
+     * Eight bytes IEEE 754 <code>double</code>.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+
+        @Override
+        public void write(DataOutput out, Double e) throws IOException {
+            out.writeDouble(e);
+        }
+
+        @Override
+        public Double read(DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    };
+
+    /**
+     * Byte length followed by UTF-8 bytes, no length limit unlike {@link DataOutput#writeUTF(String)}. <br />
+     * Read trusts length only up to {@link #MAX_STRING_RESERVE} bytes, longer strings are read in
+     * chunks into a doubling array, so a corrupted length fails with {@link java.io.EOFException}
+     * without allocation beyond the stream size.
+     */
+    ElementCodec<String> STRING = new ElementCodec<>() {
+
+        @Override
+        public void write(DataOutput out, String e) throws IOException {
+            byte[] bytes = e.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new StreamCorruptedException(String.format("Invalid string length: [%s]", length));
+            }
+            byte[] bytes = new byte[Math.min(length, MAX_STRING_RESERVE)];
+            in.readFully(bytes);
+            for (int read = bytes.length; read < length; read = bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+                in.readFully(bytes, read, bytes.length - read);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    void write(DataOutput out, E e) throws IOException;
+
+    E read(DataInput in) throws IOException;
+
+    /**
+     * @return codec that writes one marker byte before each element and allows <code>null</code>
+     */
+    static <E> ElementCodec<E> nullable(ElementCodec<E> codec) {
+        Objects.requireNonNull(codec);
+        return new ElementCodec<>() {
+
+            @Override
+            public void write(DataOutput out, E e) throws IOException {
+                out.writeBoolean(e != null);
+                if (e != null) {
+                    codec.write(out, e);
+                }
+            }
+
+            @Override
+            public E read(DataInput in) throws IOException {
+                return in.readBoolean() ? codec.read(in) : null;
+            }
+        };
+    }
+
+}
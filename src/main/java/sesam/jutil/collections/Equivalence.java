@@ -0,0 +1,97 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Strategy that decides whether two elements are equivalent, used by
+ * {@link SimpleList#indexOf(Object, Equivalence)} and related search methods. <br />
+ *
+ * <p>Searches call {@link #matcher(Object)} once per search, so implementations can
+ * prepare the probe side there: {@link #comparing(Function)} extracts probe key once and
+ * {@link #hashed(Equivalence, ToIntFunction)} compares precomputed (typically cached)
+ * hash codes before the full comparison. {@link #identity()} searches are plain
+ * reference compares.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <T>
+ */
+@FunctionalInterface
+public interface Equivalence<T> {
+
+    boolean equivalent(T a, T b);
+
+    /**
+     * @return predicate that matches elements equivalent to <code>probe</code>
+     */
+    default Predicate<T> matcher(T probe) {
+        return element -> equivalent(probe, element);
+    }
+
+    /**
+     * @return reference equality <code>a == b</code>
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Equivalence<T> identity() {
+        return (Equivalence<T>) IdentityEquivalence.INSTANCE;
+    }
+
+    /**
+     * @return {@link Objects#equals(Object, Object)} equality, default of {@link java.util.List} searches
+     */
+    static <T> Equivalence<T> equality() {
+        return Objects::equals;
+    }
+
+    /**
+     * @return equality of keys extracted with <code>key</code>, probe key is extracted once per search
+     */
+    static <T, K> Equivalence<T> comparing(Function<? super T, ? extends K> key) {
+        Objects.requireNonNull(key);
+        return new Equivalence<>() {
+
+            @Override
+            public boolean equivalent(T a, T b) {
+                return Objects.equals(key.apply(a), key.apply(b));
+            }
+
+            @Override
+            public Predicate<T> matcher(T probe) {
+                K probeKey = key.apply(probe);
+                return element -> Objects.equals(probeKey, key.apply(element));
+            }
+        };
+    }
+
+    /**
+     * @param equivalence full comparison, called only for elements with equal hash code
+     * @param hash hash code consistent with <code>equivalence</code>, should be cheap like a cached field
+     * @return equivalence that rejects elements with other hash code than probe without full comparison
+     */
+    static <T> Equivalence<T> hashed(Equivalence<T> equivalence, ToIntFunction<? super T> hash) {
+        Objects.requireNonNull(equivalence);
+        Objects.requireNonNull(hash);
+        return new Equivalence<>() {
+
+            @Override
+            public boolean equivalent(T a, T b) {
+                return hash.applyAsInt(a) == hash.applyAsInt(b) && equivalence.equivalent(a, b);
+            }
+
+            @Override
+            public Predicate<T> matcher(T probe) {
+                int probeHash = hash.applyAsInt(probe);
+                Predicate<T> full = equivalence.matcher(probe);
+                return element -> hash.applyAsInt(element) == probeHash && full.test(element);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,26 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+/**
+ * Reference equality singleton behind {@link Equivalence#identity()}, recognized by
+ * {@link SimpleList} searches to run plain reference compare loops.
+ *
+ * @author Sergej Samsonow
+ */
+final class IdentityEquivalence implements Equivalence<Object> {
+
+    static final IdentityEquivalence INSTANCE = new IdentityEquivalence();
+
+    private IdentityEquivalence() {
+        super();
+    }
+
+    @Override
+    public boolean equivalent(Object a, Object b) {
+        return a == b;
+    }
+
+}
@@ -0,0 +1,207 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Channel transfer shared by primitive list variants. <br />
+ *
+ * <p><b>Format:</b> element count as <code>int</code> followed by the elements, everything
+ * in caller defined {@link ByteOrder}.</p>
+ *
+ * <p>Backing arrays are moved through one transfer buffer with bulk view buffer copies,
+ * so there is no per element work besides byte swapping for non native order. Transfers
+ * of at most {@link #SMALL_BYTES} bytes use a heap buffer, larger transfers use a direct
+ * buffer of {@link #CHUNK_BYTES} bytes that is allocated once per thread and reused by
+ * following calls. Header and first chunk are written with one gathering write when
+ * channel is a {@link GatheringByteChannel}.</p>
+ *
+ * <p>Header count is not trusted on read: target arrays start with at most
+ * {@link #MAX_RESERVE} elements and grow with {@link #grow(int, int, int)} as chunks
+ * arrive, same as in {@link SimpleListSerialization}.</p>
+ *
+ * @author Sergej Samsonow
+ */
+final class PrimitiveChannels {
+
+    /**
+     * Upper bound of direct transfer buffer size.
+     */
+    static final int CHUNK_BYTES = 1 << 20;
+
+    /**
+     * Upper bound of transfer size that is moved through a heap buffer.
+     */
+    static final int SMALL_BYTES = 1 << 13;
+
+    /**
+     * Upper bound of elements allocated from header count before elements arrive.
+     */
+    static final int MAX_RESERVE = 1 << 16;
+
+    private static final ThreadLocal<ByteBuffer> DIRECT = new ThreadLocal<>();
+
+    /**
+     * Copies <code>length</code> elements starting at array index <code>from</code>
+     * between backing array and transfer buffer, buffer position is not changed.
+     */
+    interface Transfer {
+
+        void copy(ByteBuffer buffer, int from, int length);
+
+    }
+
+    private PrimitiveChannels() {
+        super();
+    }
+
+    /**
+     * Takes thread's direct buffer for large transfers, nested transfers in the same thread
+     * get an own buffer. Buffer must be passed to {@link #release(ByteBuffer)} afterwards.
+     */
+    private static ByteBuffer acquire(int count, int elementBytes, ByteOrder order) {
+        long bytes = Math.max(1L, count) * elementBytes;
+        if (bytes <= SMALL_BYTES) {
+            return ByteBuffer.allocate((int) bytes).order(order);
+        }
+        ByteBuffer buffer = DIRECT.get();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(CHUNK_BYTES);
+        }
+        else {
+            DIRECT.set(null);
+        }
+        buffer.clear();
+        return buffer.order(order);
+    }
+
+    private static void release(ByteBuffer buffer) {
+        if (buffer.isDirect()) {
+            DIRECT.set(buffer);
+        }
+    }
+
+    /**
+     * @return amount of bytes written
+     */
+    static long write(WritableByteChannel channel, ByteOrder order, int count, int elementBytes, Transfer transfer) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).order(order).putInt(count).flip();
+        ByteBuffer buffer = acquire(count, elementBytes, order);
+        try {
+            return write(channel, header, buffer, count, elementBytes, transfer);
+        }
+        finally {
+            release(buffer);
+        }
+    }
+
+    private static long write(WritableByteChannel channel, ByteBuffer header, ByteBuffer buffer, int count, int elementBytes, Transfer transfer) throws IOException {
+        int perChunk = buffer.capacity() / elementBytes;
+        long written = 0;
+        int from = 0;
+        do {
+            int length = Math.min(perChunk, count - from);
+            buffer.clear();
+            if (length > 0) {
+                transfer.copy(buffer, from, length);
+            }
+            buffer.limit(length * elementBytes);
+            if (header.hasRemaining()) {
+                written = written + writeFully(channel, header, buffer);
+            }
+            else {
+                written = written + writeFully(channel, buffer);
+            }
+            from = from + length;
+        }
+        while (from < count);
+        return written;
+    }
+
+    private static long writeFully(WritableByteChannel channel, ByteBuffer header, ByteBuffer buffer) throws IOException {
+        if (channel instanceof GatheringByteChannel gathering) {
+            ByteBuffer[] buffers = { header, buffer };
+            long written = 0;
+            while (header.hasRemaining() || buffer.hasRemaining()) {
+                written = written + gathering.write(buffers);
+            }
+            return written;
+        }
+        return writeFully(channel, header) + writeFully(channel, buffer);
+    }
+
+    private static long writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written = written + channel.write(buffer);
+        }
+        return written;
+    }
+
+    /**
+     * @return element count from header
+     */
+    static int readCount(ReadableByteChannel channel, ByteOrder order) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).order(order);
+        readFully(channel, header);
+        int count = header.flip().getInt();
+        if (count < 0) {
+            throw new StreamCorruptedException(String.format("Invalid count: [%s]", count));
+        }
+        return count;
+    }
+
+    /**
+     * @return initial array length for <code>count</code> elements announced by untrusted header
+     */
+    static int reserve(int count) {
+        return Math.min(count, MAX_RESERVE);
+    }
+
+    /**
+     * @return array length that holds <code>required</code> elements, at least doubled and at most <code>count</code>
+     */
+    static int grow(int length, int required, int count) {
+        return (int) Math.min(count, Math.max(required, 2L * length));
+    }
+
+    static void read(ReadableByteChannel channel, ByteOrder order, int count, int elementBytes, Transfer transfer) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        ByteBuffer buffer = acquire(count, elementBytes, order);
+        try {
+            int perChunk = buffer.capacity() / elementBytes;
+            for (int from = 0; from < count; ) {
+                int length = Math.min(perChunk, count - from);
+                buffer.clear().limit(length * elementBytes);
+                readFully(channel, buffer);
+                buffer.flip();
+                transfer.copy(buffer, from, length);
+                from = from + length;
+            }
+        }
+        finally {
+            release(buffer);
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+}
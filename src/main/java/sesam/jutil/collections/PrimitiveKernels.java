@@ -0,0 +1,607 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Aggregation kernels shared by primitive list variants. <br />
+ *
+ * <p>All kernels work directly on backing arrays in range <code>[from, to)</code>
+ * and never box. Loops are kept in plain counted form so the JIT can unroll and
+ * vectorize them, double sums use four independent accumulators because floating
+ * point reductions are not reordered by the compiler.</p>
+ *
+ * <p>Every kernel with <code>threshold</code> parameter switches to parallel
+ * execution in common {@link ForkJoinPool} as soon as range length reaches
+ * threshold value.</p>
+ *
+ * @author Sergej Samsonow
+ */
+final class PrimitiveKernels {
+
+    /**
+     * Parallel execution is disabled by this threshold value.
+     */
+    static final int NO_PARALLEL = Integer.MAX_VALUE;
+
+    private PrimitiveKernels() {
+        super();
+    }
+
+    static void checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException(String.format("Invalid parallel threshold: [%s]", threshold));
+        }
+    }
+
+    static void checkNotEmpty(int from, int to) {
+        if (from >= to) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    static void checkHistogram(double lower, double upper, int buckets) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException(String.format("Invalid buckets count: [%s]", buckets));
+        }
+        if (!(lower < upper)) {
+            throw new IllegalArgumentException(String.format("Invalid histogram range: [%s, %s)", lower, upper));
+        }
+    }
+
+    static void checkHistogram(long lower, long upper, int buckets) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException(String.format("Invalid buckets count: [%s]", buckets));
+        }
+        if (lower >= upper) {
+            throw new IllegalArgumentException(String.format("Invalid histogram range: [%s, %s)", lower, upper));
+        }
+    }
+
+    private static boolean parallel(int from, int to, int threshold) {
+        return to - from >= threshold;
+    }
+
+    private static int parts() {
+        return ForkJoinPool.getCommonPoolParallelism() * 4;
+    }
+
+    private static int bound(int from, int to, int part, int parts) {
+        return from + (int) ((long) (to - from) * part / parts);
+    }
+
+    private static int bucket(double value, double lower, double scale, int buckets) {
+        int bucket = (int) ((value - lower) * scale);
+        return bucket < buckets ? bucket : buckets - 1;
+    }
+
+    private static long[] merge(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] = left[i] + right[i];
+        }
+        return left;
+    }
+
+    /* int kernels */
+
+    static long sum(int[] data, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum = sum + data[i];
+        }
+        return sum;
+    }
+
+    static long sum(int[] data, int from, int to, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return sum(data, from, to);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .mapToLong(p -> sum(data, bound(from, to, p, parts), bound(from, to, p + 1, parts)))
+                .sum();
+    }
+
+    static int min(int[] data, int from, int to) {
+        int min = Integer.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    static int min(int[] data, int from, int to, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return min(data, from, to);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .map(p -> min(data, bound(from, to, p, parts), bound(from, to, p + 1, parts)))
+                .min().getAsInt();
+    }
+
+    static int max(int[] data, int from, int to) {
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    static int max(int[] data, int from, int to, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return max(data, from, to);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .map(p -> max(data, bound(from, to, p, parts), bound(from, to, p + 1, parts)))
+                .max().getAsInt();
+    }
+
+    static int count(int[] data, int from, int to, int lower, int upper) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int value = data[i];
+            count = count + (value >= lower && value < upper ? 1 : 0);
+        }
+        return count;
+    }
+
+    static int count(int[] data, int from, int to, int lower, int upper, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return count(data, from, to, lower, upper);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .map(p -> count(data, bound(from, to, p, parts), bound(from, to, p + 1, parts), lower, upper))
+                .sum();
+    }
+
+    static long[] histogram(int[] data, int from, int to, int lower, int upper, int buckets) {
+        long[] result = new long[buckets];
+        double scale = buckets / ((double) upper - lower);
+        for (int i = from; i < to; i++) {
+            int value = data[i];
+            if (value >= lower && value < upper) {
+                result[bucket(value, lower, scale, buckets)]++;
+            }
+        }
+        return result;
+    }
+
+    static long[] histogram(int[] data, int from, int to, int lower, int upper, int buckets, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return histogram(data, from, to, lower, upper, buckets);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .mapToObj(p -> histogram(data, bound(from, to, p, parts), bound(from, to, p + 1, parts), lower, upper, buckets))
+                .reduce(PrimitiveKernels::merge).get();
+    }
+
+    /* long kernels */
+
+    static long sum(long[] data, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum = sum + data[i];
+        }
+        return sum;
+    }
+
+    static long sum(long[] data, int from, int to, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return sum(data, from, to);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .mapToLong(p -> sum(data, bound(from, to, p, parts), bound(from, to, p + 1, parts)))
+                .sum();
+    }
+
+    static long min(long[] data, int from, int to) {
+        long min = Long.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    static long min(long[] data, int from, int to, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return min(data, from, to);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .mapToLong(p -> min(data, bound(from, to, p, parts), bound(from, to, p + 1, parts)))
+                .min().getAsLong();
+    }
+
+    static long max(long[] data, int from, int to) {
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    static long max(long[] data, int from, int to, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return max(data, from, to);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .mapToLong(p -> max(data, bound(from, to, p, parts), bound(from, to, p + 1, parts)))
+                .max().getAsLong();
+    }
+
+    static int count(long[] data, int from, int to, long lower, long upper) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            long value = data[i];
+            count = count + (value >= lower && value < upper ? 1 : 0);
+        }
+        return count;
+    }
+
+    static int count(long[] data, int from, int to, long lower, long upper, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return count(data, from, to, lower, upper);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .map(p -> count(data, bound(from, to, p, parts), bound(from, to, p + 1, parts), lower, upper))
+                .sum();
+    }
+
+    static long[] histogram(long[] data, int from, int to, long lower, long upper, int buckets) {
+        long[] result = new long[buckets];
+        double scale = buckets / ((double) upper - lower);
+        for (int i = from; i < to; i++) {
+            long value = data[i];
+            if (value >= lower && value < upper) {
+                result[bucket(value, lower, scale, buckets)]++;
+            }
+        }
+        return result;
+    }
+
+    static long[] histogram(long[] data, int from, int to, long lower, long upper, int buckets, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return histogram(data, from, to, lower, upper, buckets);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .mapToObj(p -> histogram(data, bound(from, to, p, parts), bound(from, to, p + 1, parts), lower, upper, buckets))
+                .reduce(PrimitiveKernels::merge).get();
+    }
+
+    /* double kernels */
+
+    static double sum(double[] data, int from, int to) {
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i = i + 4) {
+            s0 = s0 + data[i];
+            s1 = s1 + data[i + 1];
+            s2 = s2 + data[i + 2];
+            s3 = s3 + data[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 = s0 + data[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static double sum(double[] data, int from, int to, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return sum(data, from, to);
+        }
+        int parts = parts();
+        double[] partial = new double[parts];
+        IntStream.range(0, parts).parallel()
+                .forEach(p -> partial[p] = sum(data, bound(from, to, p, parts), bound(from, to, p + 1, parts)));
+        return sum(partial, 0, parts);
+    }
+
+    static double min(double[] data, int from, int to) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    static double min(double[] data, int from, int to, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return min(data, from, to);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .mapToDouble(p -> min(data, bound(from, to, p, parts), bound(from, to, p + 1, parts)))
+                .reduce(Double.POSITIVE_INFINITY, Math::min);
+    }
+
+    static double max(double[] data, int from, int to) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    static double max(double[] data, int from, int to, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return max(data, from, to);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .mapToDouble(p -> max(data, bound(from, to, p, parts), bound(from, to, p + 1, parts)))
+                .reduce(Double.NEGATIVE_INFINITY, Math::max);
+    }
+
+    static int count(double[] data, int from, int to, double lower, double upper) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            double value = data[i];
+            count = count + (value >= lower && value < upper ? 1 : 0);
+        }
+        return count;
+    }
+
+    static int count(double[] data, int from, int to, double lower, double upper, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return count(data, from, to, lower, upper);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .map(p -> count(data, bound(from, to, p, parts), bound(from, to, p + 1, parts), lower, upper))
+                .sum();
+    }
+
+    static long[] histogram(double[] data, int from, int to, double lower, double upper, int buckets) {
+        long[] result = new long[buckets];
+        double scale = buckets / (upper - lower);
+        for (int i = from; i < to; i++) {
+            double value = data[i];
+            if (value >= lower && value < upper) {
+                result[bucket(value, lower, scale, buckets)]++;
+            }
+        }
+        return result;
+    }
+
+    static long[] histogram(double[] data, int from, int to, double lower, double upper, int buckets, int threshold) {
+        if (!parallel(from, to, threshold)) {
+            return histogram(data, from, to, lower, upper, buckets);
+        }
+        int parts = parts();
+        return IntStream.range(0, parts).parallel()
+                .mapToObj(p -> histogram(data, bound(from, to, p, parts), bound(from, to, p + 1, parts), lower, upper, buckets))
+                .reduce(PrimitiveKernels::merge).get();
+    }
+
+    /* selection */
+
+    /**
+     * Quickselect with median of three pivot and three way partition, reorders <code>data</code>
+     * in range <code>[from, to)</code>.
+     *
+     * @return value that is at index <code>k</code> after sorting of range
+     */
+    static int select(int[] data, int from, int to, int k) {
+        int low = from;
+        int high = to - 1;
+        while (low < high) {
+            int pivot = median(data[low], data[(low + high) >>> 1], data[high]);
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int value = data[i];
+                if (value < pivot) {
+                    data[i] = data[lt];
+                    data[lt] = value;
+                    lt = lt + 1;
+                    i = i + 1;
+                }
+                else if (value > pivot) {
+                    data[i] = data[gt];
+                    data[gt] = value;
+                    gt = gt - 1;
+                }
+                else {
+                    i = i + 1;
+                }
+            }
+            if (k < lt) {
+                high = lt - 1;
+            }
+            else if (k > gt) {
+                low = gt + 1;
+            }
+            else {
+                return pivot;
+            }
+        }
+        return data[k];
+    }
+
+    private static int median(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * @see #select(int[], int, int, int)
+     */
+    static long select(long[] data, int from, int to, int k) {
+        int low = from;
+        int high = to - 1;
+        while (low < high) {
+            long pivot = median(data[low], data[(low + high) >>> 1], data[high]);
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                long value = data[i];
+                if (value < pivot) {
+                    data[i] = data[lt];
+                    data[lt] = value;
+                    lt = lt + 1;
+                    i = i + 1;
+                }
+                else if (value > pivot) {
+                    data[i] = data[gt];
+                    data[gt] = value;
+                    gt = gt - 1;
+                }
+                else {
+                    i = i + 1;
+                }
+            }
+            if (k < lt) {
+                high = lt - 1;
+            }
+            else if (k > gt) {
+                low = gt + 1;
+            }
+            else {
+                return pivot;
+            }
+        }
+        return data[k];
+    }
+
+    private static long median(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * Quickselect in {@link Double#compare(double, double)} order, like {@link java.util.Arrays#sort(double[])}
+     * <code>-0.0</code> is less than <code>0.0</code> and <code>NaN</code> is greater than any other value.
+     *
+     * @see #select(long[], int, int, int)
+     */
+    static double select(double[] data, int from, int to, int k) {
+        int low = from;
+        int high = to - 1;
+        while (low < high) {
+            double pivot = median(data[low], data[(low + high) >>> 1], data[high]);
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                double value = data[i];
+                int compared = Double.compare(value, pivot);
+                if (compared < 0) {
+                    data[i] = data[lt];
+                    data[lt] = value;
+                    lt = lt + 1;
+                    i = i + 1;
+                }
+                else if (compared > 0) {
+                    data[i] = data[gt];
+                    data[gt] = value;
+                    gt = gt - 1;
+                }
+                else {
+                    i = i + 1;
+                }
+            }
+            if (k < lt) {
+                high = lt - 1;
+            }
+            else if (k > gt) {
+                low = gt + 1;
+            }
+            else {
+                return pivot;
+            }
+        }
+        return data[k];
+    }
+
+    private static double median(double a, double b, double c) {
+        if (Double.compare(a, b) > 0) {
+            double swap = a;
+            a = b;
+            b = swap;
+        }
+        if (Double.compare(b, c) > 0) {
+            b = c;
+        }
+        return Double.compare(a, b) > 0 ? a : b;
+    }
+
+    /**
+     * Selects every rank of ascending sorted <code>ranks[first, last)</code> recursively:
+     * middle rank is selected in range <code>[from, to)</code>, smaller and larger ranks are
+     * selected only in the partition left and right of it. Costs <code>O(n log m)</code> for
+     * <code>m</code> distinct ranks, afterwards <code>data[k]</code> holds the k-th smallest
+     * value for every rank <code>k</code>.
+     */
+    static void select(int[] data, int from, int to, int[] ranks, int first, int last) {
+        if (first < last) {
+            int middle = (first + last) >>> 1;
+            int k = ranks[middle];
+            select(data, from, to, k);
+            select(data, from, k, ranks, first, lowest(ranks, first, middle, k));
+            select(data, k + 1, to, ranks, highest(ranks, middle, last, k), last);
+        }
+    }
+
+    /**
+     * @see #select(int[], int, int, int[], int, int)
+     */
+    static void select(long[] data, int from, int to, int[] ranks, int first, int last) {
+        if (first < last) {
+            int middle = (first + last) >>> 1;
+            int k = ranks[middle];
+            select(data, from, to, k);
+            select(data, from, k, ranks, first, lowest(ranks, first, middle, k));
+            select(data, k + 1, to, ranks, highest(ranks, middle, last, k), last);
+        }
+    }
+
+    /**
+     * @see #select(int[], int, int, int[], int, int)
+     */
+    static void select(double[] data, int from, int to, int[] ranks, int first, int last) {
+        if (first < last) {
+            int middle = (first + last) >>> 1;
+            int k = ranks[middle];
+            select(data, from, to, k);
+            select(data, from, k, ranks, first, lowest(ranks, first, middle, k));
+            select(data, k + 1, to, ranks, highest(ranks, middle, last, k), last);
+        }
+    }
+
+    /**
+     * @return first index in <code>[first, middle]</code> of sorted ranks that holds rank <code>k</code>
+     */
+    private static int lowest(int[] ranks, int first, int middle, int k) {
+        while (middle > first && ranks[middle - 1] == k) {
+            middle = middle - 1;
+        }
+        return middle;
+    }
+
+    /**
+     * @return index after last index in <code>[middle, last)</code> of sorted ranks that holds rank <code>k</code>
+     */
+    private static int highest(int[] ranks, int middle, int last, int k) {
+        while (middle < last && ranks[middle] == k) {
+            middle = middle + 1;
+        }
+        return middle;
+    }
+
+}
@@ -0,0 +1,43 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+/**
+ * Field layout of queue sequence counters. <br />
+ *
+ * <p>JVM places superclass fields before subclass fields, so every counter is
+ * declared in own class of the hierarchy and surrounded by 120 bytes of padding.
+ * Producer and consumer counters never share a cache line (nor an adjacent
+ * prefetched one) with each other or with queue fields.</p>
+ *
+ * @author Sergej Samsonow
+ */
+final class QueuePadding {
+
+    private QueuePadding() {
+        super();
+    }
+
+    abstract static class Pad0 {
+        long p00, p01, p02, p03, p04, p05, p06, p07, p08, p09, p0a, p0b, p0c, p0d, p0e;
+    }
+
+    abstract static class ProducerSequence extends Pad0 {
+        long producerIndex;
+    }
+
+    abstract static class Pad1 extends ProducerSequence {
+        long p10, p11, p12, p13, p14, p15, p16, p17, p18, p19, p1a, p1b, p1c, p1d, p1e;
+    }
+
+    abstract static class ConsumerSequence extends Pad1 {
+        long consumerIndex;
+    }
+
+    abstract static class Pad2 extends ConsumerSequence {
+        long p20, p21, p22, p23, p24, p25, p26, p27, p28, p29, p2a, p2b, p2c, p2d, p2e;
+    }
+
+}
@@ -0,0 +1,256 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Append only list of <code>boolean</code> values packed into <code>long[]</code> words. <br />
+ *
+ * <p>Internal array grows with the same rules as {@link SimpleList} internal array,
+ * <code>initial</code> and <code>additional</code> values are counted in bits.
+ * Bulk operations {@link #and(SimpleBitList)}, {@link #or(SimpleBitList)},
+ * {@link #andNot(SimpleBitList)}, {@link #cardinality()} and set bit iteration
+ * work one word (64 values) at a time.</p>
+ *
+ * @author Sergej Samsonow
+ */
+@NotThreadSafe
+public class SimpleBitList {
+
+    private long[] words;
+    private int count;
+    private int initial     = SimpleList.DEFAULT_INITIAL;
+    private int additional  = SimpleList.DEFAULT_ADDITIONAL;
+
+    /**
+     * Default constructor.
+     */
+    public SimpleBitList() {
+        super();
+    }
+
+    /**
+     * Default constructor with customized internal array initialization.
+     *
+     * @param initial amount of bits that will be added to size of internal array on initial initialization step.
+     * @param additional amount of bits that will be added to size of internal array on resize array step.
+     */
+    public SimpleBitList(int initial, int additional) {
+        this();
+        if (initial < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (additional < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.initial = initial;
+        this.additional = additional;
+    }
+
+    private static int wordsFor(long bits) {
+        return (int) ((bits + 63) >>> 6);
+    }
+
+    private void increaseIfNecessary(int incomingCount) {
+        if (words == null) {
+            words = new long[wordsFor((long) incomingCount + initial)];
+        }
+        else {
+            long totalCount = (long) count + incomingCount;
+            if (wordsFor(totalCount) > words.length) {
+                long[] largeStorage = new long[wordsFor(totalCount + additional)];
+                System.arraycopy(words, 0, largeStorage, 0, wordsFor(count));
+                words = largeStorage;
+            }
+        }
+    }
+
+    /**
+     * @return mask of valid bits in the last used word
+     */
+    private static long lastWordMask(int bits) {
+        return -1L >>> (64 - bits);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public boolean add(boolean value) {
+        increaseIfNecessary(1);
+        if (value) {
+            words[count >>> 6] |= 1L << count;
+        }
+        count = count + 1;
+        return true;
+    }
+
+    public boolean addAll(boolean... values) {
+        if (values.length < 1) {
+            return false;
+        }
+        increaseIfNecessary(values.length);
+        for (boolean value : values) {
+            if (value) {
+                words[count >>> 6] |= 1L << count;
+            }
+            count = count + 1;
+        }
+        return true;
+    }
+
+    public boolean get(int index) {
+        if (count < 1 || index > count -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (words[index >>> 6] & 1L << index) != 0;
+    }
+
+    public void clear() {
+        if (words != null) {
+            for (int i = 0, used = wordsFor(count); i < used; i++) {
+                words[i] = 0;
+            }
+        }
+        count = 0;
+    }
+
+    /**
+     * @return amount of <code>true</code> values
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0, used = wordsFor(count); i < used; i++) {
+            cardinality = cardinality + Long.bitCount(words[i]);
+        }
+        return cardinality;
+    }
+
+    /**
+     * @return index of the first <code>true</code> value at or after <code>from</code>, or -1
+     */
+    public int nextSetBit(int from) {
+        if (from < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (from >= count) {
+            return -1;
+        }
+        int wordIndex = from >>> 6;
+        long word = words[wordIndex] & -1L << from;
+        int used = wordsFor(count);
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+            wordIndex = wordIndex + 1;
+            if (wordIndex >= used) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Calls consumer with index of each <code>true</code> value in ascending order.
+     */
+    public void forEachSetBit(IntConsumer consumer) {
+        for (int i = 0, used = wordsFor(count); i < used; i++) {
+            long word = words[i];
+            while (word != 0) {
+                consumer.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word = word & word - 1;
+            }
+        }
+    }
+
+    /**
+     * @return iterator over indexes of <code>true</code> values in ascending order
+     */
+    public PrimitiveIterator.OfInt setBits() {
+        return new PrimitiveIterator.OfInt() {
+
+            private int next = nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next != -1;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next == -1) {
+                    throw new NoSuchElementException();
+                }
+                int current = next;
+                next = current + 1 < count ? nextSetBit(current + 1) : -1;
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Values beyond size of other list are treated as <code>false</code>.
+     */
+    public void and(SimpleBitList other) {
+        int used = wordsFor(count);
+        int common = Math.min(used, wordsFor(other.count));
+        for (int i = 0; i < common; i++) {
+            words[i] &= other.words[i];
+        }
+        if (other.count < count && common > 0 && (other.count & 63) != 0) {
+            words[common - 1] &= lastWordMask(other.count & 63);
+        }
+        for (int i = common; i < used; i++) {
+            words[i] = 0;
+        }
+    }
+
+    /**
+     * Values beyond size of this list are ignored.
+     */
+    public void or(SimpleBitList other) {
+        int common = Math.min(wordsFor(count), wordsFor(other.count));
+        for (int i = 0; i < common; i++) {
+            words[i] |= other.words[i];
+        }
+        clearUnused();
+    }
+
+    /**
+     * Clears every value that is <code>true</code> in other list, values beyond size of this list are ignored.
+     */
+    public void andNot(SimpleBitList other) {
+        int common = Math.min(wordsFor(count), wordsFor(other.count));
+        for (int i = 0; i < common; i++) {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    private void clearUnused() {
+        if ((count & 63) != 0) {
+            words[count >>> 6] &= lastWordMask(count & 63);
+        }
+    }
+
+    /**
+     * @return copy of used words, bit <code>i</code> is stored in word <code>i / 64</code> at position <code>i % 64</code>
+     */
+    public long[] toLongArray() {
+        long[] result = new long[wordsFor(count)];
+        if (result.length > 0) {
+            System.arraycopy(words, 0, result, 0, result.length);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,308 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Append only list of <code>long</code> values compressed in fixed size blocks. <br />
+ *
+ * <p>Values are collected in an uncompressed tail block of {@link #BLOCK} values. As soon
+ * as the tail is full it is sealed with one of two bit packing encodings, whatever needs
+ * fewer bits per value:</p>
+ * <ul>
+ * <li><b>frame of reference:</b> block minimum is stored once and every value as
+ * <code>value - minimum</code></li>
+ * <li><b>delta:</b> first value and minimal delta are stored once and every following
+ * value as <code>value - previous - minimalDelta</code>, which suits sorted ids and timestamps</li>
+ * </ul>
+ *
+ * <p>Per block skip index (base, minimal delta, bit width, word offset) makes
+ * {@link #get(int)} constant for frame of reference blocks and at most {@link #BLOCK}
+ * additions for delta blocks. {@link #iterator()} decodes one block at a time.
+ * <code>int</code> values are stored the same way and take no more bits than their range needs.</p>
+ *
+ * <p>Packed words and block index grow in fixed steps ({@link #WORDS_ADDITIONAL},
+ * {@link #BLOCKS_ADDITIONAL}) like {@link SimpleList} internal array.</p>
+ *
+ * @author Sergej Samsonow
+ */
+@NotThreadSafe
+public class SimpleCompressedLongList {
+
+    /**
+     * Amount of values per block.
+     */
+    public static final int BLOCK = 128;
+
+    /**
+     * Amount of packed words added on resize step.
+     */
+    public static final int WORDS_ADDITIONAL = 1024;
+
+    /**
+     * Amount of block index entries added on resize step.
+     */
+    public static final int BLOCKS_ADDITIONAL = 64;
+
+    private static final int BLOCK_SHIFT    = 7;
+    private static final int BLOCK_MASK     = BLOCK - 1;
+
+    private long[] tail;
+    private int tailCount;
+    private long[] words;
+    private int wordCount;
+    private long[] blockBase;
+    private long[] blockMinDelta;
+    private int[] blockOffset;
+    private byte[] blockWidth;
+    private boolean[] blockDelta;
+    private int blocks;
+
+    /**
+     * Default constructor.
+     */
+    public SimpleCompressedLongList() {
+        super();
+    }
+
+    private static int width(long range) {
+        return 64 - Long.numberOfLeadingZeros(range);
+    }
+
+    private void increaseIfNecessary(int incomingWords) {
+        if (words == null) {
+            words = new long[incomingWords + WORDS_ADDITIONAL];
+            blockBase = new long[BLOCKS_ADDITIONAL];
+            blockMinDelta = new long[BLOCKS_ADDITIONAL];
+            blockOffset = new int[BLOCKS_ADDITIONAL];
+            blockWidth = new byte[BLOCKS_ADDITIONAL];
+            blockDelta = new boolean[BLOCKS_ADDITIONAL];
+            return;
+        }
+        if (words.length - wordCount < incomingWords) {
+            words = Arrays.copyOf(words, wordCount + incomingWords + WORDS_ADDITIONAL);
+        }
+        if (blocks == blockBase.length) {
+            int newSize = blocks + BLOCKS_ADDITIONAL;
+            blockBase = Arrays.copyOf(blockBase, newSize);
+            blockMinDelta = Arrays.copyOf(blockMinDelta, newSize);
+            blockOffset = Arrays.copyOf(blockOffset, newSize);
+            blockWidth = Arrays.copyOf(blockWidth, newSize);
+            blockDelta = Arrays.copyOf(blockDelta, newSize);
+        }
+    }
+
+    private void write(int offset, int index, int width, long value) {
+        if (width == 0) {
+            return;
+        }
+        long bit = (long) index * width;
+        int word = offset + (int) (bit >>> 6);
+        int shift = (int) (bit & 63);
+        words[word] |= value << shift;
+        if (shift + width > 64) {
+            words[word + 1] |= value >>> (64 - shift);
+        }
+    }
+
+    private long read(int offset, int index, int width) {
+        if (width == 0) {
+            return 0;
+        }
+        long bit = (long) index * width;
+        int word = offset + (int) (bit >>> 6);
+        int shift = (int) (bit & 63);
+        long value = words[word] >>> shift;
+        if (shift + width > 64) {
+            value |= words[word + 1] << (64 - shift);
+        }
+        return width == 64 ? value : value & ((1L << width) - 1);
+    }
+
+    private void seal() {
+        long min = tail[0];
+        long max = tail[0];
+        long minDelta = Long.MAX_VALUE;
+        long maxDelta = Long.MIN_VALUE;
+        for (int i = 1; i < BLOCK; i++) {
+            long value = tail[i];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            long delta = value - tail[i - 1];
+            minDelta = Math.min(minDelta, delta);
+            maxDelta = Math.max(maxDelta, delta);
+        }
+        int forWidth = width(max - min);
+        int deltaWidth = width(maxDelta - minDelta);
+        boolean delta = deltaWidth < forWidth;
+        int width = delta ? deltaWidth : forWidth;
+        int entries = delta ? BLOCK - 1 : BLOCK;
+        int needed = (int) (((long) entries * width + 63) >>> 6);
+        increaseIfNecessary(needed);
+        blockOffset[blocks] = wordCount;
+        blockWidth[blocks] = (byte) width;
+        blockDelta[blocks] = delta;
+        if (delta) {
+            blockBase[blocks] = tail[0];
+            blockMinDelta[blocks] = minDelta;
+            for (int i = 1; i < BLOCK; i++) {
+                write(wordCount, i - 1, width, tail[i] - tail[i - 1] - minDelta);
+            }
+        }
+        else {
+            blockBase[blocks] = min;
+            for (int i = 0; i < BLOCK; i++) {
+                write(wordCount, i, width, tail[i] - min);
+            }
+        }
+        wordCount = wordCount + needed;
+        blocks = blocks + 1;
+        tailCount = 0;
+    }
+
+    private long decode(int block, int position) {
+        int offset = blockOffset[block];
+        int width = blockWidth[block];
+        long base = blockBase[block];
+        if (!blockDelta[block]) {
+            return base + read(offset, position, width);
+        }
+        long value = base + position * blockMinDelta[block];
+        for (int i = 0; i < position; i++) {
+            value = value + read(offset, i, width);
+        }
+        return value;
+    }
+
+    private void decode(int block, long[] target) {
+        int offset = blockOffset[block];
+        int width = blockWidth[block];
+        long base = blockBase[block];
+        if (blockDelta[block]) {
+            long minDelta = blockMinDelta[block];
+            target[0] = base;
+            for (int i = 1; i < BLOCK; i++) {
+                target[i] = target[i - 1] + minDelta + read(offset, i - 1, width);
+            }
+        }
+        else {
+            for (int i = 0; i < BLOCK; i++) {
+                target[i] = base + read(offset, i, width);
+            }
+        }
+    }
+
+    public int size() {
+        return blocks * BLOCK + tailCount;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean add(long value) {
+        if (tail == null) {
+            tail = new long[BLOCK];
+        }
+        tail[tailCount] = value;
+        tailCount = tailCount + 1;
+        if (tailCount == BLOCK) {
+            seal();
+        }
+        return true;
+    }
+
+    public boolean addAll(long... values) {
+        for (long value : values) {
+            add(value);
+        }
+        return values.length > 0;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        int block = index >>> BLOCK_SHIFT;
+        int position = index & BLOCK_MASK;
+        return block == blocks ? tail[position] : decode(block, position);
+    }
+
+    public void clear() {
+        words = null;
+        wordCount = 0;
+        blocks = 0;
+        tailCount = 0;
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size()];
+        long[] buffer = new long[BLOCK];
+        for (int block = 0; block < blocks; block++) {
+            decode(block, buffer);
+            System.arraycopy(buffer, 0, result, block * BLOCK, BLOCK);
+        }
+        if (tailCount > 0) {
+            System.arraycopy(tail, 0, result, blocks * BLOCK, tailCount);
+        }
+        return result;
+    }
+
+    /**
+     * @return approximate amount of heap bytes used by values and block index
+     */
+    public long sizeInBytes() {
+        long bytes = tail == null ? 0 : (long) tail.length * Long.BYTES;
+        if (words != null) {
+            bytes = bytes + (long) words.length * Long.BYTES;
+            bytes = bytes + (long) blockBase.length * (Long.BYTES * 2 + Integer.BYTES + 2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Streaming decoder, decodes one block at a time.
+     * Values added during iteration are visible to the iterator.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+
+            private final long[] buffer = new long[BLOCK];
+            private int cursor;
+            private int decoded = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public long nextLong() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+                int block = cursor >>> BLOCK_SHIFT;
+                int position = cursor & BLOCK_MASK;
+                long value;
+                if (block == blocks) {
+                    value = tail[position];
+                }
+                else {
+                    if (decoded != block) {
+                        decode(block, buffer);
+                        decoded = block;
+                    }
+                    value = buffer[position];
+                }
+                cursor = cursor + 1;
+                return value;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,306 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Dictionary encoded append only list with reduced {@link List} interface. <br />
+ *
+ * <p>Supported methods are the same as in {@link SimpleList}. Every distinct
+ * value is stored once in a dictionary, list itself stores dictionary code of
+ * each element. Codes are kept in <code>byte[]</code> while dictionary has up to
+ * 256 values and are widened to <code>short[]</code> (up to 65536 values) and
+ * <code>int[]</code> automatically.</p>
+ *
+ * <p>{@link #indexOf(Object)}, {@link #lastIndexOf(Object)} and {@link #contains(Object)}
+ * resolve searched value in dictionary first and scan codes afterwards, unknown
+ * values are rejected without scan.</p>
+ *
+ * <p>Code array grows with the same rules as {@link SimpleList} internal array.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+@NotThreadSafe
+public class SimpleDictionaryList<E> extends AbstractSimpleList<E> {
+
+    private static final int BYTE_CODES     = 1 << 8;
+    private static final int SHORT_CODES    = 1 << 16;
+
+    private final SimpleList<E> values = new SimpleList<>();
+    private final HashMap<E, Integer> codes = new HashMap<>();
+    private byte[] byteCodes;
+    private short[] shortCodes;
+    private int[] intCodes;
+    private int count;
+    private int initial     = SimpleList.DEFAULT_INITIAL;
+    private int additional  = SimpleList.DEFAULT_ADDITIONAL;
+
+    /**
+     * Default constructor.
+     */
+    public SimpleDictionaryList() {
+        super();
+    }
+
+    /**
+     * Default constructor with customized internal array initialization.
+     *
+     * @param initial amount of elements that will be added to size of internal array on initial initialization step.
+     * @param additional amount of elements that will be added to size of internal array on resize array step.
+     */
+    public SimpleDictionaryList(int initial, int additional) {
+        this();
+        if (initial < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (additional < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.initial = initial;
+        this.additional = additional;
+    }
+
+    private int capacity() {
+        if (byteCodes != null) {
+            return byteCodes.length;
+        }
+        if (shortCodes != null) {
+            return shortCodes.length;
+        }
+        return intCodes == null ? 0 : intCodes.length;
+    }
+
+    private void increaseIfNecessary(int incomingCount) {
+        if (byteCodes == null && shortCodes == null && intCodes == null) {
+            byteCodes = new byte[incomingCount + initial];
+        }
+        else if (capacity() - count < incomingCount) {
+            int newSize = count + incomingCount + additional;
+            if (byteCodes != null) {
+                byte[] largeStorage = new byte[newSize];
+                System.arraycopy(byteCodes, 0, largeStorage, 0, count);
+                byteCodes = largeStorage;
+            }
+            else if (shortCodes != null) {
+                short[] largeStorage = new short[newSize];
+                System.arraycopy(shortCodes, 0, largeStorage, 0, count);
+                shortCodes = largeStorage;
+            }
+            else {
+                int[] largeStorage = new int[newSize];
+                System.arraycopy(intCodes, 0, largeStorage, 0, count);
+                intCodes = largeStorage;
+            }
+        }
+    }
+
+    private void widenIfNecessary(int code) {
+        if (code == BYTE_CODES && byteCodes != null) {
+            shortCodes = new short[byteCodes.length];
+            for (int i = 0; i < count; i++) {
+                shortCodes[i] = (short) (byteCodes[i] & 0xFF);
+            }
+            byteCodes = null;
+        }
+        else if (code == SHORT_CODES && shortCodes != null) {
+            intCodes = new int[shortCodes.length];
+            for (int i = 0; i < count; i++) {
+                intCodes[i] = shortCodes[i] & 0xFFFF;
+            }
+            shortCodes = null;
+        }
+    }
+
+    private int code(int index) {
+        if (byteCodes != null) {
+            return byteCodes[index] & 0xFF;
+        }
+        if (shortCodes != null) {
+            return shortCodes[index] & 0xFFFF;
+        }
+        return intCodes[index];
+    }
+
+    /**
+     * @return amount of distinct values
+     */
+    public int dictionarySize() {
+        return values.size();
+    }
+
+    /**
+     * @return bytes used per element code: 1, 2 or 4
+     */
+    public int codeWidth() {
+        if (shortCodes != null) {
+            return 2;
+        }
+        return intCodes != null ? 4 : 1;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public boolean add(E e) {
+        Integer known = codes.get(e);
+        int code;
+        if (known == null) {
+            code = values.size();
+            values.add(e);
+            codes.put(e, code);
+        }
+        else {
+            code = known;
+        }
+        increaseIfNecessary(1);
+        widenIfNecessary(code);
+        if (byteCodes != null) {
+            byteCodes[count] = (byte) code;
+        }
+        else if (shortCodes != null) {
+            shortCodes[count] = (short) code;
+        }
+        else {
+            intCodes[count] = code;
+        }
+        count = count + 1;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c.isEmpty()) {
+            return false;
+        }
+        increaseIfNecessary(c.size());
+        for (E e : c) {
+            add(e);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+        codes.clear();
+        byteCodes = null;
+        shortCodes = null;
+        intCodes = null;
+        count = 0;
+    }
+
+    @Override
+    public E get(int index) {
+        if (count < 1 || index > count -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return values.get(code(index));
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        Integer known = codes.get(o);
+        if (known == null) {
+            return -1;
+        }
+        int code = known;
+        if (byteCodes != null) {
+            byte value = (byte) code;
+            for (int i = 0; i < count; i++) {
+                if (byteCodes[i] == value) {
+                    return i;
+                }
+            }
+        }
+        else if (shortCodes != null) {
+            short value = (short) code;
+            for (int i = 0; i < count; i++) {
+                if (shortCodes[i] == value) {
+                    return i;
+                }
+            }
+        }
+        else {
+            for (int i = 0; i < count; i++) {
+                if (intCodes[i] == code) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        Integer known = codes.get(o);
+        if (known == null) {
+            return -1;
+        }
+        int code = known;
+        if (byteCodes != null) {
+            byte value = (byte) code;
+            for (int i = count - 1; i > -1; i--) {
+                if (byteCodes[i] == value) {
+                    return i;
+                }
+            }
+        }
+        else if (shortCodes != null) {
+            short value = (short) code;
+            for (int i = count - 1; i > -1; i--) {
+                if (shortCodes[i] == value) {
+                    return i;
+                }
+            }
+        }
+        else {
+            for (int i = count - 1; i > -1; i--) {
+                if (intCodes[i] == code) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = values.get(code(i));
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        if (a.length < count) {
+            a = (T[]) Array.newInstance(a.getClass().getComponentType(), count);
+        }
+        for (int i = 0; i < count; i++) {
+            a[i] = (T) values.get(code(i));
+        }
+        if (a.length > count) {
+            a[count] = null;
+        }
+        return a;
+    }
+
+}
@@ -0,0 +1,427 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Append only list of <code>int</code> values backed by <code>int[]</code>. <br />
+ *
+ * <p>Primitive variant of {@link SimpleList}, internal array grows with the same
+ * rules: <code>initial</code> elements on first initialization step and
+ * <code>additional</code> elements on each resize array step. Values are
+ * never boxed.</p>
+ *
+ * <p><b>Aggregations:</b></p>
+ * <p>{@link #sum()}, {@link #min()}, {@link #max()}, {@link #mean()},
+ * {@link #countInRange(int, int)} and {@link #histogram(int, int, int)}
+ * run directly over internal array, each of them is also available for index range
+ * <code>[from, to)</code>. Ranges with at least {@link #getParallelThreshold()}
+ * elements are aggregated in parallel, parallel execution is disabled by default.</p>
+ * <p>{@link #select(int)} finds exact k-th smallest value without full sort,
+ * {@link #select(int...)} finds several ranks with one copy.</p>
+ *
+ * <p><b>Channel transfer:</b></p>
+ * <p>{@link #writeTo(WritableByteChannel, ByteOrder)} and {@link #readFrom(ReadableByteChannel, ByteOrder)}
+ * move internal array in bulk through a reused transfer buffer, byte order is defined by caller.</p>
+ *
+ * @author Sergej Samsonow
+ */
+@NotThreadSafe
+public class SimpleIntList {
+
+    private int[] data;
+    private int count;
+    private int initial             = SimpleList.DEFAULT_INITIAL;
+    private int additional          = SimpleList.DEFAULT_ADDITIONAL;
+    private int parallelThreshold   = PrimitiveKernels.NO_PARALLEL;
+
+    /**
+     * Default constructor.
+     */
+    public SimpleIntList() {
+        super();
+    }
+
+    /**
+     * Default constructor with customized internal array initialization.
+     *
+     * @param initial amount of elements that will be added to size of internal array on initial initialization step.
+     * @param additional amount of elements that will be added to size of internal array on resize array step.
+     */
+    public SimpleIntList(int initial, int additional) {
+        this();
+        if (initial < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (additional < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.initial = initial;
+        this.additional = additional;
+    }
+
+    /**
+     * Default constructor with customized internal array initialization.
+     *
+     * @param additional amount of elements that will be added to size of internal array on first initialization step and on resize array step.
+     */
+    public SimpleIntList(int additional) {
+        this(additional, additional);
+    }
+
+    private void increaseIfNecessary(int incomingCount) {
+        if (data == null) {
+            data = new int[incomingCount + initial];
+        }
+        else {
+            int free = data.length - count;
+            int totalCount = count + incomingCount;
+            if (free < incomingCount) {
+                int newSize = totalCount + additional;
+                int[] largeStorage = new int[newSize];
+                System.arraycopy(data, 0, largeStorage, 0, count);
+                data = largeStorage;
+            }
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public boolean add(int value) {
+        increaseIfNecessary(1);
+        data[count] = value;
+        count = count + 1;
+        return true;
+    }
+
+    public boolean addAll(int... values) {
+        if (values.length < 1) {
+            return false;
+        }
+        increaseIfNecessary(values.length);
+        System.arraycopy(values, 0, data, count, values.length);
+        count = count + values.length;
+        return true;
+    }
+
+    public int get(int index) {
+        if (count < 1 || index > count -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return data[index];
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < count; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(int value) {
+        for (int i = count - 1; i > -1; i--) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Shrinks internal array to list size, empty list releases internal array.
+     */
+    public void trimToSize() {
+        if (data != null && data.length > count) {
+            data = count == 0 ? null : Arrays.copyOf(data, count);
+        }
+    }
+
+    /**
+     * @return length of internal array
+     */
+    int capacity() {
+        return data == null ? 0 : data.length;
+    }
+
+    public int[] toArray() {
+        int[] result = new int[count];
+        if (count > 0) {
+            System.arraycopy(data, 0, result, 0, count);
+        }
+        return result;
+    }
+
+    /**
+     * Copies values of range <code>[from, to)</code> to <code>dest</code> starting at <code>destPos</code>.
+     *
+     * @throws IndexOutOfBoundsException if range is not inside of list or does not fit into <code>dest</code>
+     */
+    public void copyRange(int from, int to, int[] dest, int destPos) {
+        Objects.checkFromToIndex(from, to, count);
+        if (from < to) {
+            System.arraycopy(data, from, dest, destPos, to - from);
+        }
+    }
+
+    /**
+     * @return batched cursor starting at first value
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Batched forward cursor, see {@link SimpleListCursor}.
+     */
+    public final class Cursor {
+
+        private int position;
+
+        private Cursor() {
+            super();
+        }
+
+        /**
+         * @return index of value returned by next batch
+         */
+        public int position() {
+            return position;
+        }
+
+        public boolean hasNext() {
+            return position < count;
+        }
+
+        /**
+         * Copies up to <code>max</code> following values to <code>dest</code> starting at index 0.
+         *
+         * @return amount of copied values, 0 if cursor is exhausted
+         */
+        public int nextBatch(int[] dest, int max) {
+            Objects.checkFromIndexSize(0, max, dest.length);
+            int length = Math.min(max, count - position);
+            if (length < 1) {
+                return 0;
+            }
+            System.arraycopy(data, position, dest, 0, length);
+            position = position + length;
+            return length;
+        }
+    }
+
+    /**
+     * Writes element count and elements to channel, see {@link #readFrom(ReadableByteChannel, ByteOrder)}.
+     *
+     * @return amount of bytes written
+     */
+    public long writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+        return PrimitiveChannels.write(channel, order, count, Integer.BYTES,
+                (buffer, from, length) -> buffer.asIntBuffer().put(data, from, length));
+    }
+
+    /**
+     * Reads list written by {@link #writeTo(WritableByteChannel, ByteOrder)} with the same byte order.
+     * Internal array of the resulting list has exactly element count length, it is allocated
+     * for a bounded amount of elements and doubles as elements arrive, so a corrupt count fails
+     * with {@link java.io.EOFException} instead of a huge allocation.
+     */
+    public static SimpleIntList readFrom(ReadableByteChannel channel, ByteOrder order) throws IOException {
+        int count = PrimitiveChannels.readCount(channel, order);
+        SimpleIntList list = new SimpleIntList();
+        list.data = new int[PrimitiveChannels.reserve(count)];
+        PrimitiveChannels.read(channel, order, count, Integer.BYTES, (buffer, from, length) -> {
+            if (from + length > list.data.length) {
+                list.data = Arrays.copyOf(list.data, PrimitiveChannels.grow(list.data.length, from + length, count));
+            }
+            buffer.asIntBuffer().get(list.data, from, length);
+        });
+        list.count = count;
+        return list;
+    }
+
+    /**
+     * @return minimal range length that is aggregated in parallel.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * @param parallelThreshold minimal range length that is aggregated in parallel, {@link Integer#MAX_VALUE} disables parallel execution.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        PrimitiveKernels.checkThreshold(parallelThreshold);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public long sum() {
+        return sum(0, count);
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if range <code>[from, to)</code> is out of list bounds
+     */
+    public long sum(int from, int to) {
+        Objects.checkFromToIndex(from, to, count);
+        return PrimitiveKernels.sum(data, from, to, parallelThreshold);
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public int min() {
+        return min(0, count);
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if range <code>[from, to)</code> is out of list bounds
+     * @throws NoSuchElementException if range is empty
+     */
+    public int min(int from, int to) {
+        Objects.checkFromToIndex(from, to, count);
+        PrimitiveKernels.checkNotEmpty(from, to);
+        return PrimitiveKernels.min(data, from, to, parallelThreshold);
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public int max() {
+        return max(0, count);
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if range <code>[from, to)</code> is out of list bounds
+     * @throws NoSuchElementException if range is empty
+     */
+    public int max(int from, int to) {
+        Objects.checkFromToIndex(from, to, count);
+        PrimitiveKernels.checkNotEmpty(from, to);
+        return PrimitiveKernels.max(data, from, to, parallelThreshold);
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public double mean() {
+        return mean(0, count);
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if range <code>[from, to)</code> is out of list bounds
+     * @throws NoSuchElementException if range is empty
+     */
+    public double mean(int from, int to) {
+        Objects.checkFromToIndex(from, to, count);
+        PrimitiveKernels.checkNotEmpty(from, to);
+        return (double) PrimitiveKernels.sum(data, from, to, parallelThreshold) / (to - from);
+    }
+
+    /**
+     * @param lower inclusive lower bound
+     * @param upper exclusive upper bound
+     * @return amount of values in <code>[lower, upper)</code>
+     */
+    public int countInRange(int lower, int upper) {
+        return countInRange(0, count, lower, upper);
+    }
+
+    /**
+     * @param lower inclusive lower bound
+     * @param upper exclusive upper bound
+     * @return amount of values in <code>[lower, upper)</code> inside of index range <code>[from, to)</code>
+     * @throws IndexOutOfBoundsException if range <code>[from, to)</code> is out of list bounds
+     */
+    public int countInRange(int from, int to, int lower, int upper) {
+        Objects.checkFromToIndex(from, to, count);
+        return PrimitiveKernels.count(data, from, to, lower, upper, parallelThreshold);
+    }
+
+    /**
+     * Fixed bucket histogram, range <code>[lower, upper)</code> is split into
+     * <code>buckets</code> buckets of equal width, values outside of range are ignored.
+     *
+     * @return counts per bucket
+     */
+    public long[] histogram(int lower, int upper, int buckets) {
+        return histogram(0, count, lower, upper, buckets);
+    }
+
+    /**
+     * Fixed bucket histogram over index range <code>[from, to)</code>.
+     *
+     * @see #histogram(int, int, int)
+     * @throws IndexOutOfBoundsException if range <code>[from, to)</code> is out of list bounds
+     */
+    public long[] histogram(int from, int to, int lower, int upper, int buckets) {
+        Objects.checkFromToIndex(from, to, count);
+        PrimitiveKernels.checkHistogram(lower, upper, buckets);
+        return PrimitiveKernels.histogram(data, from, to, lower, upper, buckets, parallelThreshold);
+    }
+
+    /**
+     * Exact selection with quickselect on a copy of internal array, expected linear time,
+     * list order is not changed.
+     *
+     * @param k zero based rank, <code>0</code> selects the smallest value
+     * @return value at index <code>k</code> of sorted list
+     * @throws IndexOutOfBoundsException if <code>k</code> is out of list bounds
+     */
+    public int select(int k) {
+        Objects.checkIndex(k, count);
+        return PrimitiveKernels.select(Arrays.copyOf(data, count), 0, count, k);
+    }
+
+    /**
+     * Exact selection of several ranks with one copy of internal array, for example
+     * <code>select(count / 2, count * 9 / 10, count * 99 / 100)</code> for median, 90th
+     * and 99th percentile. Ranks are selected recursively, each one only in the partition
+     * left by the previous ranks, list order is not changed.
+     *
+     * @param ks zero based ranks in any order, duplicates are allowed
+     * @return values at indexes <code>ks</code> of sorted list, in order of <code>ks</code>
+     * @throws IndexOutOfBoundsException if any rank is out of list bounds
+     */
+    public int[] select(int... ks) {
+        for (int k : ks) {
+            Objects.checkIndex(k, count);
+        }
+        int[] values = new int[ks.length];
+        if (ks.length > 0) {
+            int[] ranks = ks.clone();
+            Arrays.sort(ranks);
+            int[] copy = Arrays.copyOf(data, count);
+            PrimitiveKernels.select(copy, 0, count, ranks, 0, ranks.length);
+            for (int i = 0; i < ks.length; i++) {
+                values[i] = copy[ks[i]];
+            }
+        }
+        return values;
+    }
+
+}
@@ -6,10 +6,10 @@
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Reduced implementation of {@link List} interface. <br />
@@ -19,18 +19,30 @@
  * <li>{@link SimpleList#isEmpty()}</li>
  * <li>{@link SimpleList#add(Object)}</li>
  * <li>{@link SimpleList#addAll(Collection)}</li>
+ * <li>{@link SimpleList#addAll(Object[])}</li>
+ * <li>{@link SimpleList#addAll(Object[], int, int)}</li>
  * <li>{@link SimpleList#clear()}</li>
  * <li>{@link SimpleList#contains(Object)}</li>
+ * <li>{@link SimpleList#contains(Object, Equivalence)}</li>
  * <li>{@link SimpleList#containsAll(Collection)}</li>
+ * <li>{@link SimpleList#copyRange(int, int, Object[], int)}</li>
+ * <li>{@link SimpleList#cursor()}</li>
+ * <li>{@link SimpleList#equals(Object)}</li>
+ * <li>{@link SimpleList#hashCode()}</li>
  * <li>{@link SimpleList#indexOf(Object)}</li>
+ * <li>{@link SimpleList#indexOf(Object, Equivalence)}</li>
  * <li>{@link SimpleList#iterator()}</li>
  * <li>{@link SimpleList#get(int)}</li>
  * <li>{@link SimpleList#lastIndexOf(Object)}</li>
+ * <li>{@link SimpleList#lastIndexOf(Object, Equivalence)}</li>
+ * <li>{@link SimpleList#reserve(int)}</li>
  * <li>{@link SimpleList#listIterator()}</li>
  * <li>{@link SimpleList#listIterator(int)}</li>
+ * <li>{@link SimpleList#mapView(Function)}</li>
  * <li>{@link SimpleList#size()}</li>
  * <li>{@link SimpleList#toArray()}</li>
  * <li>{@link SimpleList#toArray(Object[])}</li>
+ * <li>{@link SimpleList#trimToSize()}</li>
  * </ul>
  *
  * <p>Any other method throws {@link UnsupportedOperationException}</p>
@@ -38,6 +50,13 @@
  * without list modifications method like {@link List#remove(int)} or
  * {@link List#set(int, Object)}.</p>
  *
+ * <p><b>Hash code:</b></p>
+ * <p>{@link List#hashCode()} value is updated on each add, so {@link SimpleList#hashCode()}
+ * does not scan elements. {@link SimpleList#equals(Object)} rejects lists of other size
+ * and {@link SimpleList} with other hash code without scan and compares two
+ * {@link SimpleList} internal arrays in bulk. Cached hash code reflects element hash
+ * codes at add time, elements must not change their hash code afterwards.</p>
+ *
  * <p><b>Internal array initialization:</b></p>
  * <p>Another idea is to resize internal array with fixed elements count
  * instead of double it. It is possible to define first initialization
@@ -73,7 +92,7 @@
  */
 
 @NotThreadSafe
-public class SimpleList<E> implements List<E> {
+public class SimpleList<E> extends AbstractSimpleList<E> {
 
     /**
      * Default initial (empty) elements count that will be added to size of internal array on initial initialization step.
@@ -87,6 +106,7 @@
 
     private Object[] data;
     private int count;
+    private int hash		= 1;
     private int initial		= DEFAULT_INITIAL;
     private int additional 	= DEFAULT_ADDITIONAL;
 
@@ -173,35 +193,60 @@ private void increaseIfNecessary(int incomingCount) {
         }
     }
 
-    @Override
-    public int size() {
-        return count;
+    /**
+     * Ensures place for <code>incomingCount</code> further elements ahead of a known bulk load.
+     * Empty list allocates internal array of exactly <code>incomingCount</code> elements, otherwise
+     * internal array grows once by the usual rules.
+     *
+     * @param incomingCount amount of elements that will be added
+     */
+    public void reserve(int incomingCount) {
+        if (incomingCount < 0) {
+            throw new IllegalArgumentException(String.format("Invalid count: [%s]", incomingCount));
+        }
+        if (incomingCount == 0) {
+            return;
+        }
+        if (data == null) {
+            data = new Object[incomingCount];
+        }
+        else if (data.length - count < incomingCount) {
+            increaseIfNecessary(incomingCount);
+        }
     }
 
-    @Override
-    public boolean isEmpty() {
-        return count == 0;
+    /**
+     * Shrinks internal array to list size, empty list releases internal array.
+     */
+    public void trimToSize() {
+        if (data != null && data.length > count) {
+            data = count == 0 ? null : Arrays.copyOf(data, count);
+        }
     }
 
-    @Override
-    public boolean contains(Object o) {
-        return indexOf(o) != -1;
+    /**
+     * @return length of internal array
+     */
+    int capacity() {
+        return data == null ? 0 : data.length;
     }
 
-    @Override
-    public boolean containsAll(Collection<?> c) {
-        for (Object o : c) {
-            if (indexOf(o) == -1) {
-                return false;
-            }
-        }
-        return true;
+    /**
+     * @return internal array for read only access inside of package, <code>null</code>
+     * before first allocation, only first {@link #size()} slots are elements
+     */
+    Object[] array() {
+        return data;
     }
 
+    @Override
+    public int size() {
+        return count;
+    }
 
     @Override
-    public Iterator<E> iterator() {
-        return listIterator(0);
+    public boolean isEmpty() {
+        return count == 0;
     }
 
     @Override
@@ -229,13 +274,38 @@ public <T> T[] toArray(T[] a) {
     }
 
     /**
-     * Not supported.
+     * Copies elements of range <code>[from, to)</code> to <code>dest</code> starting at <code>destPos</code>.
      *
-     * @throws {@link UnsupportedOperationException}
+     * @throws IndexOutOfBoundsException if range is not inside of list or does not fit into <code>dest</code>
+     * @throws ArrayStoreException if an element does not match <code>dest</code> component type
      */
-    @Override
-    public boolean remove(Object o) {
-        throw new UnsupportedOperationException();
+    public void copyRange(int from, int to, Object[] dest, int destPos) {
+        Objects.checkFromToIndex(from, to, count);
+        if (from < to) {
+            System.arraycopy(data, from, dest, destPos, to - from);
+        }
+    }
+
+    /**
+     * @return batched cursor starting at first element
+     */
+    public SimpleListCursor<E> cursor() {
+        return new SimpleListCursor<>(0, this);
+    }
+
+    /**
+     * @return batched cursor starting at <code>index</code>
+     */
+    public SimpleListCursor<E> cursor(int index) {
+        return new SimpleListCursor<>(index, this);
+    }
+
+    /**
+     * @return read only view of current elements mapped with <code>mapper</code>, elements
+     * are computed on first access and cached, see {@link SimpleMappedList}
+     */
+    public <T> SimpleMappedList<E, T> mapView(Function<? super E, ? extends T> mapper) {
+        return new SimpleMappedList<>(this, mapper);
     }
 
     @Override
@@ -243,77 +313,88 @@ public boolean add(E e) {
         increaseIfNecessary(1);
         data[count] = e;
         count = count + 1;
+        hash = 31 * hash + Objects.hashCode(e);
         return true;
     }
 
+    /**
+     * {@link SimpleList} sources are copied from their internal array directly, other
+     * collections through {@link Collection#toArray()}, both with one capacity check and
+     * one {@link System#arraycopy(Object, int, Object, int, int)}.
+     */
     @Override
     public boolean addAll(Collection<? extends E> c) {
-        int incomingCount = c.size();
-        if (incomingCount  < 1) {
-            return false;
-        }
-        increaseIfNecessary(incomingCount);
-        Iterator<? extends E> iterator = c.iterator();
-        for (int i = 0; i < incomingCount; i++) {
-            data[count] = iterator.next();
-            count = count + 1;
+        if (c instanceof SimpleList<?> other) {
+            int incomingCount = other.count;
+            if (incomingCount < 1) {
+                return false;
+            }
+            increaseIfNecessary(incomingCount);
+            System.arraycopy(other.data, 0, data, count, incomingCount);
+            count = count + incomingCount;
+            int power = pow31(incomingCount);
+            hash = hash * power + other.hash - power;
+            return true;
         }
-        /**
-         * An other one algorithm cut be:
-         * <code>
-         * Object[] incomming = c.toArray();
-         * if (incomming.length < 1) {
-         *     return false;
-         * }
-         * increaseIfNecessary(incomming.length);
-         * System.arraycopy(incomming, 0, data, count, incomming.length);
-         * count = count + incomming.length;
-         * </code>
-         *
-         * Assumption is that one java: for (int i = 0; i < incomingCount; i++)
-         * in current algorithm perform better that: Object[] incomming = c.toArray();
-         * and System.arraycopy(incomming, 0, data, count, incomming.length);
-         * but need to be measured
-         */
-        return true;
+        Object[] incoming = c.toArray();
+        return append(incoming, 0, incoming.length);
     }
 
     /**
-     * Not supported.
+     * Adds all elements of <code>values</code> with one capacity check and one
+     * {@link System#arraycopy(Object, int, Object, int, int)}. Empty array leaves list
+     * unchanged, internal array is neither allocated nor resized.
      *
-     * @throws {@link UnsupportedOperationException}
+     * @return <code>true</code> if list changed, <code>false</code> for empty array
      */
-    @Override
-    public boolean addAll(int index, Collection<? extends E> c) {
-        throw new UnsupportedOperationException();
+    public boolean addAll(E[] values) {
+        return append(values, 0, values.length);
     }
 
     /**
-     * Not supported.
-     *
-     * @throws {@link UnsupportedOperationException}
+     * Adds elements of range <code>[from, to)</code>.
      */
-    @Override
-    public boolean removeAll(Collection<?> c) {
-        throw new UnsupportedOperationException();
+    public boolean addAll(E[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return append(values, from, to);
+    }
+
+    private boolean append(Object[] values, int from, int to) {
+        int incomingCount = to - from;
+        if (incomingCount < 1) {
+            return false;
+        }
+        increaseIfNecessary(incomingCount);
+        System.arraycopy(values, from, data, count, incomingCount);
+        for (int i = count, end = count + incomingCount; i < end; i++) {
+            hash = 31 * hash + Objects.hashCode(data[i]);
+        }
+        count = count + incomingCount;
+        return true;
     }
 
     /**
-     * Not supported.
-     *
-     * @throws {@link UnsupportedOperationException}
+     * @return 31 to the power of <code>exponent</code> with <code>int</code> overflow like {@link List#hashCode()}
      */
-    @Override
-    public boolean retainAll(Collection<?> c) {
-        throw new UnsupportedOperationException();
+    private static int pow31(int exponent) {
+        int result = 1;
+        int base = 31;
+        for (int e = exponent; e > 0; e = e >>> 1) {
+            if ((e & 1) == 1) {
+                result = result * base;
+            }
+            base = base * base;
+        }
+        return result;
     }
 
     @Override
     public void clear() {
-        count = 0;
         for (int i = 0; i < count; i++) {
             data[i] = null;
         }
+        count = 0;
+        hash = 1;
     }
 
     @Override
@@ -325,36 +406,6 @@ public E get(int index) {
         return (E)data[index];
     }
 
-    /**
-     * Not supported.
-     *
-     * @throws {@link UnsupportedOperationException}
-     */
-    @Override
-    public E set(int index, E element) {
-        throw new UnsupportedOperationException();
-    }
-
-    /**
-     * Not supported.
-     *
-     * @throws {@link UnsupportedOperationException}
-     */
-    @Override
-    public void add(int index, E element) {
-        throw new UnsupportedOperationException();
-    }
-
-    /**
-     * Not supported.
-     *
-     * @throws {@link UnsupportedOperationException}
-     */
-    @Override
-    public E remove(int index) {
-        throw new UnsupportedOperationException();
-    }
-
     @Override
     public int indexOf(Object o) {
         if (count > 0) {
@@ -379,24 +430,88 @@ public int lastIndexOf(Object o) {
         return -1;
     }
 
-    @Override
-    public ListIterator<E> listIterator() {
-        return listIterator(0);
+    /**
+     * Index of the first element equivalent to <code>o</code>. {@link Equivalence#identity()}
+     * searches compare references only, other equivalences are asked for
+     * {@link Equivalence#matcher(Object)} once per search.
+     */
+    public int indexOf(E o, Equivalence<? super E> equivalence) {
+        if (equivalence instanceof IdentityEquivalence) {
+            for (int i = 0; i < count; i++) {
+                if (data[i] == o) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        Predicate<? super E> matcher = matcher(o, equivalence);
+        for (int i = 0; i < count; i++) {
+            if (matcher.test(element(i))) {
+                return i;
+            }
+        }
+        return -1;
     }
 
-    @Override
-    public ListIterator<E> listIterator(int index) {
-        return new SimpleListIterator<>(index, this);
+    /**
+     * Index of the last element equivalent to <code>o</code>, see {@link #indexOf(Object, Equivalence)}.
+     */
+    public int lastIndexOf(E o, Equivalence<? super E> equivalence) {
+        if (equivalence instanceof IdentityEquivalence) {
+            for (int i = count - 1; i > -1; i--) {
+                if (data[i] == o) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        Predicate<? super E> matcher = matcher(o, equivalence);
+        for (int i = count - 1; i > -1; i--) {
+            if (matcher.test(element(i))) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Not supported.
-     *
-     * @throws {@link UnsupportedOperationException}
+     * @return <code>true</code> if list contains an element equivalent to <code>o</code>,
+     * see {@link #indexOf(Object, Equivalence)}
      */
+    public boolean contains(E o, Equivalence<? super E> equivalence) {
+        return indexOf(o, equivalence) != -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Predicate<? super E> matcher(E o, Equivalence<? super E> equivalence) {
+        return ((Equivalence<E>) equivalence).matcher(o);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E element(int index) {
+        return (E) data[index];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof SimpleList<?> other) {
+            if (count != other.count || hash != other.hash) {
+                return false;
+            }
+            return count == 0 || Arrays.equals(data, 0, count, other.data, 0, count);
+        }
+        if (o instanceof List<?> other && count != other.size()) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
     @Override
-    public List<E> subList(int fromIndex, int toIndex) {
-        throw new UnsupportedOperationException();
+    public int hashCode() {
+        return hash;
     }
 
 }
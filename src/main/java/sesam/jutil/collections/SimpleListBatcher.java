@@ -0,0 +1,261 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Collects elements into {@link SimpleList} buffers and hands full buffers to a sink. <br />
+ *
+ * <p>Buffer is flushed as soon as one of following limits is reached:</p>
+ * <ul>
+ * <li>elements count, defined in constructor</li>
+ * <li>estimated bytes size, see {@link #setMaxBytes(long, ToLongFunction)}</li>
+ * <li>age of the oldest buffered element, see {@link #setMaxDelay(long, TimeUnit)}</li>
+ * </ul>
+ *
+ * <p><b>Delay is polled, not timed:</b></p>
+ * <p>Batcher runs no timer. Age is checked only on {@link #add(Object)} and on
+ * {@link #flushIfExpired()}, so a partial batch of an idle producer is delivered
+ * only if producer thread calls {@link #flushIfExpired()}, for example from its
+ * poll loop after waiting {@link #remainingDelay(TimeUnit)}.</p>
+ *
+ * <p><b>Buffer recycling:</b></p>
+ * <p>Sink receives the buffer and must not keep it after return, the buffer is
+ * cleared and reused for following batches. Without executor sink is called in
+ * producer thread and the same buffer is reused. With executor
+ * ({@link #setExecutor(Executor)}) batcher double buffers: the full buffer is
+ * handed off and producer continues with the second buffer. At most one batch is
+ * in flight, if the previous batch is not delivered yet flush waits until sink
+ * returns it, so a slow sink throttles producer instead of growing memory.</p>
+ *
+ * <p>{@link #add(Object)}, {@link #addAll(Collection)}, {@link #flush()} and
+ * {@link #flushIfExpired()} must be called from one thread.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+@NotThreadSafe
+public class SimpleListBatcher<E> implements AutoCloseable {
+
+    /**
+     * Upper bound of initial buffer size, larger buffers grow with {@link SimpleList} rules.
+     */
+    static final int MAX_INITIAL = 1024;
+
+    private final Consumer<SimpleList<E>> sink;
+    private final int maxCount;
+    private final BlockingQueue<SimpleList<E>> recycled = new ArrayBlockingQueue<>(1);
+    private long maxBytes = Long.MAX_VALUE;
+    private ToLongFunction<? super E> estimator;
+    private long maxDelay = Long.MAX_VALUE;
+    private Executor executor;
+    private SimpleList<E> buffer;
+    private boolean doubled;
+    private long bytes;
+    private long started;
+
+    /**
+     * @param sink receives full buffers
+     * @param maxCount flush buffer as soon as it contains this amount of elements
+     */
+    public SimpleListBatcher(Consumer<SimpleList<E>> sink, int maxCount) {
+        super();
+        if (maxCount < 1) {
+            throw new IllegalArgumentException(String.format("Invalid max count: [%s]", maxCount));
+        }
+        this.sink = Objects.requireNonNull(sink);
+        this.maxCount = maxCount;
+        this.buffer = newBuffer();
+    }
+
+    private SimpleList<E> newBuffer() {
+        return new SimpleList<>(Math.min(maxCount, MAX_INITIAL), SimpleList.DEFAULT_ADDITIONAL);
+    }
+
+    /**
+     * Creates the second buffer on first hand off, afterwards waits until sink returns it.
+     */
+    private SimpleList<E> nextBuffer() {
+        if (!doubled) {
+            doubled = true;
+            return newBuffer();
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return recycled.take();
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Asynchronous delivery, returns buffer to recycled buffers afterwards.
+     */
+    private void deliver(SimpleList<E> batch) {
+        try {
+            sink.accept(batch);
+        }
+        finally {
+            batch.clear();
+            recycled.offer(batch);
+        }
+    }
+
+    /**
+     * Flush buffer as soon as estimated size of buffered elements reaches <code>maxBytes</code>.
+     *
+     * @param estimator estimated bytes size of one element
+     */
+    public void setMaxBytes(long maxBytes, ToLongFunction<? super E> estimator) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException(String.format("Invalid max bytes: [%s]", maxBytes));
+        }
+        this.estimator = Objects.requireNonNull(estimator);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Flush buffer as soon as the oldest buffered element is older than <code>maxDelay</code>.
+     * Delay is checked on {@link #add(Object)} and {@link #flushIfExpired()} calls only.
+     */
+    public void setMaxDelay(long maxDelay, TimeUnit unit) {
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException(String.format("Invalid max delay: [%s]", maxDelay));
+        }
+        this.maxDelay = unit.toNanos(maxDelay);
+    }
+
+    /**
+     * @param executor runs sink asynchronously, null means sink is called in producer thread.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return amount of buffered elements
+     */
+    public int size() {
+        return buffer.size();
+    }
+
+    public boolean add(E e) {
+        if (buffer.isEmpty()) {
+            started = System.nanoTime();
+        }
+        buffer.add(e);
+        if (estimator != null) {
+            bytes = bytes + estimator.applyAsLong(e);
+        }
+        if (buffer.size() >= maxCount || bytes >= maxBytes || expired()) {
+            flush();
+        }
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends E> c) {
+        if (c.isEmpty()) {
+            return false;
+        }
+        for (E e : c) {
+            add(e);
+        }
+        return true;
+    }
+
+    private boolean expired() {
+        return maxDelay != Long.MAX_VALUE && !buffer.isEmpty() && System.nanoTime() - started >= maxDelay;
+    }
+
+    /**
+     * @return time until buffered elements reach max delay, <code>0</code> if already expired,
+     * {@link Long#MAX_VALUE} if buffer is empty or no max delay is set
+     */
+    public long remainingDelay(TimeUnit unit) {
+        if (maxDelay == Long.MAX_VALUE || buffer.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        long remaining = maxDelay - (System.nanoTime() - started);
+        return remaining <= 0 ? 0 : unit.convert(remaining, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Flushes buffer if the oldest buffered element is older than max delay.
+     * Producer thread must call it periodically while no elements arrive, otherwise
+     * a partial batch stays buffered.
+     *
+     * @return true if buffer was flushed
+     */
+    public boolean flushIfExpired() {
+        if (expired()) {
+            flush();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Hands buffered elements to the sink, does nothing if buffer is empty. With executor
+     * waits until previous batch is delivered.
+     *
+     * @throws RejectedExecutionException if executor rejects delivery, elements stay buffered
+     */
+    public void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        SimpleList<E> batch = buffer;
+        if (executor == null) {
+            bytes = 0;
+            try {
+                sink.accept(batch);
+            }
+            finally {
+                batch.clear();
+            }
+        }
+        else {
+            SimpleList<E> next = nextBuffer();
+            try {
+                executor.execute(() -> deliver(batch));
+            }
+            catch (RejectedExecutionException e) {
+                recycled.offer(next);
+                throw e;
+            }
+            buffer = next;
+            bytes = 0;
+        }
+    }
+
+    /**
+     * Flushes remaining elements.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+}
@@ -0,0 +1,73 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Objects;
+
+/**
+ * Batched forward cursor over {@link SimpleList}. <br />
+ *
+ * <p>{@link #nextBatch(Object[], int)} copies up to <code>max</code> following elements
+ * into caller supplied array with one {@link SimpleList#copyRange(int, int, Object[], int)}
+ * call, so the same fixed size buffer can be reused for the whole list. Like
+ * {@link SimpleListIterator} cursor follows elements that are added during iteration,
+ * after {@link SimpleList#clear()} cursor is exhausted.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+@NotThreadSafe
+public class SimpleListCursor<E> {
+
+    private final SimpleList<E> container;
+    private int position;
+
+    public SimpleListCursor(int index, SimpleList<E> container) {
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid cursor value: [%s] the lowerst possible cursor is 0", index));
+        }
+        this.position = index;
+        this.container = Objects.requireNonNull(container);
+    }
+
+    /**
+     * @return index of element returned by next batch
+     */
+    public int position() {
+        return position;
+    }
+
+    public boolean hasNext() {
+        return position < container.size();
+    }
+
+    /**
+     * Copies up to <code>max</code> following elements to <code>dest</code> starting at index 0.
+     *
+     * @return amount of copied elements, 0 if cursor is exhausted
+     */
+    public int nextBatch(E[] dest, int max) {
+        Objects.checkFromIndexSize(0, max, dest.length);
+        int length = Math.min(max, container.size() - position);
+        if (length < 1) {
+            return 0;
+        }
+        container.copyRange(position, position + length, dest, 0);
+        position = position + length;
+        return length;
+    }
+
+    /**
+     * Fills <code>dest</code> with following elements.
+     *
+     * @return amount of copied elements, 0 if cursor is exhausted
+     */
+    public int nextBatch(E[] dest) {
+        return nextBatch(dest, dest.length);
+    }
+
+}
@@ -0,0 +1,248 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Classifies elements of {@link SimpleList} into per key lists in one pass. <br />
+ *
+ * <p>Every group keeps encounter order of its elements. Key function is called exactly
+ * once per element. Object keys are grouped with {@link HashMap}, <code>int</code> keys
+ * in range <code>[0, keys)</code> and enum keys are grouped with arrays indexed by key
+ * or ordinal, without hashing and boxing.</p>
+ *
+ * <p><b>Presize:</b></p>
+ * <p>With <code>presize</code> keys are computed and counted in a first pass and stored,
+ * second pass fills groups with exactly reserved internal arrays. Costs one stored key per
+ * element and avoids repeated growth of large groups.</p>
+ *
+ * <p><b>Parallel:</b></p>
+ * <p>With <code>parallel</code> list is split into chunks of at least {@link #MIN_CHUNK}
+ * elements, each chunk is grouped in common {@link ForkJoinPool} and partial groups are
+ * concatenated in chunk order into exactly reserved groups. Key function must be side
+ * effect free and list must not be modified during grouping.</p>
+ *
+ * @author Sergej Samsonow
+ */
+public final class SimpleListGrouping {
+
+    /**
+     * Lower bound of elements per chunk in parallel mode.
+     */
+    public static final int MIN_CHUNK = 1 << 14;
+
+    private SimpleListGrouping() {
+        super();
+    }
+
+    public static <E, K> Map<K, SimpleList<E>> groupBy(SimpleList<E> list, Function<? super E, ? extends K> key) {
+        return groupBy(list, key, false, false);
+    }
+
+    /**
+     * @return groups of present keys, <code>null</code> is a valid key
+     */
+    public static <E, K> Map<K, SimpleList<E>> groupBy(SimpleList<E> list, Function<? super E, ? extends K> key, boolean presize, boolean parallel) {
+        Objects.requireNonNull(key);
+        int chunks = chunks(list.size(), parallel);
+        if (chunks == 1) {
+            return groupBy(list, 0, list.size(), key, presize);
+        }
+        @SuppressWarnings("unchecked")
+        Map<K, SimpleList<E>>[] partials = IntStream.range(0, chunks).parallel()
+            .mapToObj(chunk -> groupBy(list, from(list, chunk, chunks), from(list, chunk + 1, chunks), key, presize))
+            .toArray(Map[]::new);
+        Map<K, int[]> totals = new HashMap<>();
+        for (Map<K, SimpleList<E>> partial : partials) {
+            partial.forEach((k, group) -> totals.computeIfAbsent(k, absent -> new int[1])[0] += group.size());
+        }
+        Map<K, SimpleList<E>> result = new HashMap<>(capacity(totals.size()));
+        totals.forEach((k, total) -> result.put(k, reserved(total[0])));
+        for (Map<K, SimpleList<E>> partial : partials) {
+            partial.forEach((k, group) -> result.get(k).addAll(group));
+        }
+        return result;
+    }
+
+    private static <E, K> Map<K, SimpleList<E>> groupBy(SimpleList<E> list, int from, int to, Function<? super E, ? extends K> key, boolean presize) {
+        if (!presize) {
+            Map<K, SimpleList<E>> result = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                E element = list.get(i);
+                result.computeIfAbsent(key.apply(element), absent -> new SimpleList<>()).add(element);
+            }
+            return result;
+        }
+        Object[] keys = new Object[to - from];
+        Map<K, int[]> counts = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            K k = key.apply(list.get(i));
+            keys[i - from] = k;
+            counts.computeIfAbsent(k, absent -> new int[1])[0]++;
+        }
+        Map<K, SimpleList<E>> result = new HashMap<>(capacity(counts.size()));
+        counts.forEach((k, count) -> result.put(k, reserved(count[0])));
+        for (int i = from; i < to; i++) {
+            result.get(keys[i - from]).add(list.get(i));
+        }
+        return result;
+    }
+
+    public static <E> SimpleList<SimpleList<E>> groupByInt(SimpleList<E> list, int keys, ToIntFunction<? super E> key) {
+        return groupByInt(list, keys, key, false, false);
+    }
+
+    /**
+     * @param keys amount of keys, valid keys are in range <code>[0, keys)</code>
+     * @return list of <code>keys</code> groups, group at index <code>k</code> holds elements with key <code>k</code>
+     * @throws IllegalArgumentException if key function returns key outside of valid range
+     */
+    public static <E> SimpleList<SimpleList<E>> groupByInt(SimpleList<E> list, int keys, ToIntFunction<? super E> key, boolean presize, boolean parallel) {
+        if (keys < 0) {
+            throw new IllegalArgumentException(String.format("Invalid keys count: [%s]", keys));
+        }
+        Objects.requireNonNull(key);
+        int chunks = chunks(list.size(), parallel);
+        SimpleList<?>[] groups;
+        if (chunks == 1) {
+            groups = groupByInt(list, 0, list.size(), keys, key, presize);
+        }
+        else {
+            SimpleList<?>[][] partials = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> groupByInt(list, from(list, chunk, chunks), from(list, chunk + 1, chunks), keys, key, presize))
+                .toArray(SimpleList<?>[][]::new);
+            groups = new SimpleList<?>[keys];
+            for (int k = 0; k < keys; k++) {
+                int total = 0;
+                for (SimpleList<?>[] partial : partials) {
+                    total = total + partial[k].size();
+                }
+                SimpleList<E> group = reserved(total);
+                for (SimpleList<?>[] partial : partials) {
+                    @SuppressWarnings("unchecked")
+                    SimpleList<E> elements = (SimpleList<E>) partial[k];
+                    group.addAll(elements);
+                }
+                groups[k] = group;
+            }
+        }
+        SimpleList<SimpleList<E>> result = new SimpleList<>();
+        result.reserve(keys);
+        for (SimpleList<?> group : groups) {
+            @SuppressWarnings("unchecked")
+            SimpleList<E> elements = (SimpleList<E>) group;
+            result.add(elements);
+        }
+        return result;
+    }
+
+    private static <E> SimpleList<?>[] groupByInt(SimpleList<E> list, int from, int to, int keys, ToIntFunction<? super E> key, boolean presize) {
+        SimpleList<?>[] groups = new SimpleList<?>[keys];
+        if (!presize) {
+            for (int k = 0; k < keys; k++) {
+                groups[k] = new SimpleList<E>();
+            }
+            for (int i = from; i < to; i++) {
+                E element = list.get(i);
+                @SuppressWarnings("unchecked")
+                SimpleList<E> group = (SimpleList<E>) groups[checked(key.applyAsInt(element), keys)];
+                group.add(element);
+            }
+            return groups;
+        }
+        int[] indexes = new int[to - from];
+        int[] counts = new int[keys];
+        for (int i = from; i < to; i++) {
+            int k = checked(key.applyAsInt(list.get(i)), keys);
+            indexes[i - from] = k;
+            counts[k] = counts[k] + 1;
+        }
+        for (int k = 0; k < keys; k++) {
+            groups[k] = reserved(counts[k]);
+        }
+        for (int i = from; i < to; i++) {
+            @SuppressWarnings("unchecked")
+            SimpleList<E> group = (SimpleList<E>) groups[indexes[i - from]];
+            group.add(list.get(i));
+        }
+        return groups;
+    }
+
+    public static <E, K extends Enum<K>> EnumMap<K, SimpleList<E>> groupByEnum(SimpleList<E> list, Class<K> type, Function<? super E, K> key) {
+        return groupByEnum(list, type, key, false, false);
+    }
+
+    /**
+     * @return groups of all constants of <code>type</code>, groups of absent keys are empty
+     * @throws IllegalArgumentException if key function returns <code>null</code>
+     */
+    public static <E, K extends Enum<K>> EnumMap<K, SimpleList<E>> groupByEnum(SimpleList<E> list, Class<K> type, Function<? super E, K> key, boolean presize, boolean parallel) {
+        Objects.requireNonNull(key);
+        K[] constants = type.getEnumConstants();
+        SimpleList<SimpleList<E>> groups = groupByInt(list, constants.length, element -> ordinal(key.apply(element)), presize, parallel);
+        EnumMap<K, SimpleList<E>> result = new EnumMap<>(type);
+        for (K constant : constants) {
+            result.put(constant, groups.get(constant.ordinal()));
+        }
+        return result;
+    }
+
+    /**
+     * @return groups of matching (<code>true</code>) and not matching (<code>false</code>) elements, both keys are present
+     */
+    public static <E> Map<Boolean, SimpleList<E>> partition(SimpleList<E> list, Predicate<? super E> predicate, boolean parallel) {
+        Objects.requireNonNull(predicate);
+        SimpleList<SimpleList<E>> groups = groupByInt(list, 2, element -> predicate.test(element) ? 1 : 0, false, parallel);
+        return Map.of(Boolean.FALSE, groups.get(0), Boolean.TRUE, groups.get(1));
+    }
+
+    private static int ordinal(Enum<?> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Invalid key: [null]");
+        }
+        return key.ordinal();
+    }
+
+    private static int checked(int key, int keys) {
+        if (key < 0 || key >= keys) {
+            throw new IllegalArgumentException(String.format("Invalid key: [%s]", key));
+        }
+        return key;
+    }
+
+    private static <E> SimpleList<E> reserved(int size) {
+        SimpleList<E> list = new SimpleList<>();
+        list.reserve(size);
+        return list;
+    }
+
+    private static int capacity(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, size * 4L / 3 + 1);
+    }
+
+    private static int chunks(int size, boolean parallel) {
+        if (!parallel) {
+            return 1;
+        }
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, size / MIN_CHUNK));
+    }
+
+    /**
+     * @return start index of <code>chunk</code>, end index of last chunk is list size
+     */
+    private static int from(SimpleList<?> list, int chunk, int chunks) {
+        return (int) ((long) list.size() * chunk / chunks);
+    }
+
+}
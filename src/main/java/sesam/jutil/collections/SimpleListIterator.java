@@ -4,12 +4,13 @@
  */
 package sesam.jutil.collections;
 
+import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.lang.UnsupportedOperationException;
 
 /**
- * Reduced version of {@link ListIterator} for {@link SimpleList} object. <br />
+ * Reduced version of {@link ListIterator} for {@link SimpleList} and other reduced {@link List} objects. <br />
  * <b>Supported methods:</b>
  * <ul>
  * <li>{@link SimpleListIterator#hasNext()}</li>
@@ -30,9 +31,9 @@
 public class SimpleListIterator<E> implements ListIterator<E> {
 
     private int cursor;
-    private SimpleList<E> container;
+    private List<E> container;
 
-    public SimpleListIterator(int index, SimpleList<E> container) {
+    public SimpleListIterator(int index, List<E> container) {
         if (index < 0) {
             throw new IllegalArgumentException(
                     String.format("Invalid cursor value: [%s] the lowerst possible cursor is 0", index));
@@ -0,0 +1,161 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Loads line based text files into {@link SimpleList} in parallel. <br />
+ *
+ * <p>File is split into chunks of about the same size, every chunk ends after a
+ * line feed. Chunks are memory mapped and parsed in common {@link ForkJoinPool},
+ * each chunk into own list that is presized with exact line count of the chunk.
+ * Chunk lists are concatenated in file order into one list with exactly sized
+ * internal array.</p>
+ *
+ * <p>Lines are separated by <code>\n</code>, trailing <code>\r</code> is removed.
+ * Empty lines are passed to parser, last line does not need a line feed. Supported
+ * are charsets that encode line feed as single byte <code>0x0A</code> like UTF-8
+ * or ISO-8859-1.</p>
+ *
+ * @author Sergej Samsonow
+ */
+public final class SimpleListLoader {
+
+    /**
+     * Lower bound of chunk size in bytes.
+     */
+    public static final int MIN_CHUNK = 1 << 20;
+
+    /**
+     * Upper bound of chunk size in bytes, lines that cross it extend the chunk.
+     */
+    public static final int MAX_CHUNK = 1 << 28;
+
+    private static final int SCAN_WINDOW = 8192;
+
+    private SimpleListLoader() {
+        super();
+    }
+
+    /**
+     * Loads UTF-8 encoded file.
+     */
+    public static <E> SimpleList<E> load(Path file, Function<String, ? extends E> parser) throws IOException {
+        return load(file, StandardCharsets.UTF_8, parser);
+    }
+
+    public static <E> SimpleList<E> load(Path file, Charset charset, Function<String, ? extends E> parser) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            long target = channel.size() / (ForkJoinPool.getCommonPoolParallelism() * 4L);
+            return load(channel, charset, parser, (int) Math.max(MIN_CHUNK, Math.min(MAX_CHUNK, target)));
+        }
+    }
+
+    static <E> SimpleList<E> load(FileChannel channel, Charset charset, Function<String, ? extends E> parser, int chunkBytes) throws IOException {
+        if (!Arrays.equals("\n".getBytes(charset), new byte[] { '\n' })) {
+            throw new IllegalArgumentException(String.format("Invalid charset: [%s]", charset));
+        }
+        long size = channel.size();
+        SimpleLongList boundaries = new SimpleLongList();
+        boundaries.add(0);
+        for (long position = 0; position < size; ) {
+            position = position + chunkBytes < size ? lineEnd(channel, position + chunkBytes - 1, size) : size;
+            boundaries.add(position);
+        }
+        SimpleList<?>[] chunks;
+        try {
+            chunks = IntStream.range(0, boundaries.size() - 1).parallel()
+                .mapToObj(chunk -> parse(channel, boundaries.get(chunk), boundaries.get(chunk + 1), charset, parser))
+                .toArray(SimpleList<?>[]::new);
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        int total = 0;
+        for (SimpleList<?> chunk : chunks) {
+            total = Math.addExact(total, chunk.size());
+        }
+        SimpleList<E> result = new SimpleList<>();
+        result.reserve(total);
+        for (SimpleList<?> chunk : chunks) {
+            @SuppressWarnings("unchecked")
+            SimpleList<E> elements = (SimpleList<E>) chunk;
+            result.addAll(elements);
+        }
+        return result;
+    }
+
+    /**
+     * @return position after the first line feed at or after <code>from</code>, or file size
+     */
+    private static long lineEnd(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW);
+        long position = from;
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position = position + Math.max(read, 0);
+        }
+        return size;
+    }
+
+    private static <E> SimpleList<E> parse(FileChannel channel, long start, long end, Charset charset, Function<String, ? extends E> parser) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int length = buffer.limit();
+        int lines = 0;
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(i) == '\n') {
+                lines = lines + 1;
+            }
+        }
+        if (length > 0 && buffer.get(length - 1) != '\n') {
+            lines = lines + 1;
+        }
+        SimpleList<E> result = new SimpleList<>();
+        result.reserve(lines);
+        byte[] line = new byte[256];
+        int lineStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length && lineStart == length) {
+                break;
+            }
+            if (i == length || buffer.get(i) == '\n') {
+                int lineEnd = i > lineStart && buffer.get(i - 1) == '\r' ? i - 1 : i;
+                int lineLength = lineEnd - lineStart;
+                if (line.length < lineLength) {
+                    line = new byte[lineLength];
+                }
+                buffer.get(lineStart, line, 0, lineLength);
+                result.add(parser.apply(new String(line, 0, lineLength, charset)));
+                lineStart = i + 1;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,398 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Merge operations over {@link SimpleList}s that are sorted by the same {@link Comparator}. <br />
+ *
+ * <p>Operations read internal arrays of source lists directly and write into result lists
+ * that are reserved in advance. Sort order of sources is not verified, results for unsorted
+ * sources are unspecified.</p>
+ *
+ * <ul>
+ * <li>{@link #merge(List, Comparator)} merges <code>k</code> lists with binary heap of list
+ * heads in <code>O(total * log k)</code>, equal elements keep order of their lists.</li>
+ * <li>{@link #join(SimpleList, Function, SimpleList, Function, Comparator, BiConsumer)} passes
+ * every pair of elements with equal keys to consumer.</li>
+ * <li>{@link #intersection(SimpleList, SimpleList, Comparator)}, {@link #union(SimpleList, SimpleList, Comparator)}
+ * and {@link #difference(SimpleList, SimpleList, Comparator)} have multiset semantics: element
+ * that occurs <code>m</code> times in first and <code>n</code> times in second list occurs
+ * <code>min(m, n)</code>, <code>max(m, n)</code> and <code>max(m - n, 0)</code> times in result.</li>
+ * </ul>
+ *
+ * <p><b>Parallel:</b></p>
+ * <p>Parallel variants split sources into key ranges at evenly spaced elements of the largest
+ * source, every range starts at first element not less than its splitter in each source, so
+ * equal elements never cross a range border. Ranges of at least {@link #MIN_RANGE} elements
+ * are processed in common {@link ForkJoinPool} and concatenated in key order.</p>
+ *
+ * @author Sergej Samsonow
+ */
+public final class SimpleListMerge {
+
+    /**
+     * Lower bound of elements per key range in parallel mode.
+     */
+    public static final int MIN_RANGE = 1 << 14;
+
+    private enum Operation {
+        INTERSECTION, UNION, DIFFERENCE
+    }
+
+    private SimpleListMerge() {
+        super();
+    }
+
+    public static <E> SimpleList<E> merge(List<? extends SimpleList<? extends E>> lists, Comparator<? super E> comparator) {
+        return merge(lists, comparator, false);
+    }
+
+    /**
+     * @return new list with all elements of <code>lists</code> in sorted order and exactly sized internal array
+     */
+    public static <E> SimpleList<E> merge(List<? extends SimpleList<? extends E>> lists, Comparator<? super E> comparator, boolean parallel) {
+        Objects.requireNonNull(comparator);
+        int k = lists.size();
+        Object[][] arrays = new Object[k][];
+        int[] counts = new int[k];
+        int total = 0;
+        for (int i = 0; i < k; i++) {
+            SimpleList<? extends E> list = lists.get(i);
+            arrays[i] = list.array();
+            counts[i] = list.size();
+            total = Math.addExact(total, counts[i]);
+        }
+        int[][] bounds = split(arrays, counts, comparator, ranges(total, parallel));
+        if (bounds.length == 2) {
+            SimpleList<E> result = reserved(total);
+            merge(arrays, bounds[0], bounds[1], comparator, result);
+            return result;
+        }
+        SimpleList<?>[] partials = IntStream.range(0, bounds.length - 1).parallel()
+            .mapToObj(range -> {
+                SimpleList<E> partial = reserved(sum(bounds[range + 1]) - sum(bounds[range]));
+                merge(arrays, bounds[range], bounds[range + 1], comparator, partial);
+                return partial;
+            })
+            .toArray(SimpleList<?>[]::new);
+        return concat(partials, total);
+    }
+
+    private static <E> void merge(Object[][] arrays, int[] from, int[] to, Comparator<? super E> comparator, SimpleList<E> result) {
+        Heap<E> heap = new Heap<>(arrays, from, to, comparator);
+        while (heap.size > 1) {
+            int top = heap.nodes[0];
+            result.add(heap.head(top));
+            heap.positions[top] = heap.positions[top] + 1;
+            if (heap.positions[top] == to[top]) {
+                heap.size = heap.size - 1;
+                heap.nodes[0] = heap.nodes[heap.size];
+            }
+            heap.siftDown(0);
+        }
+        if (heap.size == 1) {
+            int last = heap.nodes[0];
+            @SuppressWarnings("unchecked")
+            E[] rest = (E[]) arrays[last];
+            result.addAll(rest, heap.positions[last], to[last]);
+        }
+    }
+
+    /**
+     * Binary min heap of source indexes ordered by current head element, ties by source index.
+     */
+    private static final class Heap<E> {
+
+        private final Object[][] arrays;
+        private final int[] positions;
+        private final int[] nodes;
+        private final Comparator<? super E> comparator;
+        private int size;
+
+        private Heap(Object[][] arrays, int[] from, int[] to, Comparator<? super E> comparator) {
+            this.arrays = arrays;
+            this.positions = from.clone();
+            this.nodes = new int[arrays.length];
+            this.comparator = comparator;
+            for (int i = 0; i < arrays.length; i++) {
+                if (positions[i] < to[i]) {
+                    nodes[size] = i;
+                    size = size + 1;
+                }
+            }
+            for (int node = size / 2 - 1; node > -1; node--) {
+                siftDown(node);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private E head(int source) {
+            return (E) arrays[source][positions[source]];
+        }
+
+        private boolean less(int a, int b) {
+            int compared = comparator.compare(head(a), head(b));
+            return compared < 0 || (compared == 0 && a < b);
+        }
+
+        private void siftDown(int node) {
+            int source = nodes[node];
+            while (true) {
+                int child = 2 * node + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && less(nodes[child + 1], nodes[child])) {
+                    child = child + 1;
+                }
+                if (!less(nodes[child], source)) {
+                    break;
+                }
+                nodes[node] = nodes[child];
+                node = child;
+            }
+            nodes[node] = source;
+        }
+    }
+
+    /**
+     * Sorted merge join, both lists must be sorted by their key with <code>comparator</code>.
+     * Consumer gets every pair of left and right element with equal keys, in left then right order.
+     *
+     * @return amount of joined pairs
+     */
+    public static <L, R, K> long join(SimpleList<L> left, Function<? super L, ? extends K> leftKey,
+            SimpleList<R> right, Function<? super R, ? extends K> rightKey,
+            Comparator<? super K> comparator, BiConsumer<? super L, ? super R> consumer) {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(consumer);
+        Object[] a = left.array();
+        Object[] b = right.array();
+        int n = left.size();
+        int m = right.size();
+        long pairs = 0;
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            K key = leftKey.apply(element(a, i));
+            int compared = comparator.compare(key, rightKey.apply(element(b, j)));
+            if (compared < 0) {
+                i = i + 1;
+            }
+            else if (compared > 0) {
+                j = j + 1;
+            }
+            else {
+                int leftEnd = i + 1;
+                while (leftEnd < n && comparator.compare(key, leftKey.apply(element(a, leftEnd))) == 0) {
+                    leftEnd = leftEnd + 1;
+                }
+                int rightEnd = j + 1;
+                while (rightEnd < m && comparator.compare(key, rightKey.apply(element(b, rightEnd))) == 0) {
+                    rightEnd = rightEnd + 1;
+                }
+                for (int x = i; x < leftEnd; x++) {
+                    L l = element(a, x);
+                    for (int y = j; y < rightEnd; y++) {
+                        consumer.accept(l, element(b, y));
+                    }
+                }
+                pairs = pairs + (long) (leftEnd - i) * (rightEnd - j);
+                i = leftEnd;
+                j = rightEnd;
+            }
+        }
+        return pairs;
+    }
+
+    public static <E> SimpleList<E> intersection(SimpleList<? extends E> a, SimpleList<? extends E> b, Comparator<? super E> comparator) {
+        return operation(Operation.INTERSECTION, a, b, comparator, false);
+    }
+
+    /**
+     * @return elements of both lists, equal elements are taken from <code>a</code>
+     */
+    public static <E> SimpleList<E> intersection(SimpleList<? extends E> a, SimpleList<? extends E> b, Comparator<? super E> comparator, boolean parallel) {
+        return operation(Operation.INTERSECTION, a, b, comparator, parallel);
+    }
+
+    public static <E> SimpleList<E> union(SimpleList<? extends E> a, SimpleList<? extends E> b, Comparator<? super E> comparator) {
+        return operation(Operation.UNION, a, b, comparator, false);
+    }
+
+    /**
+     * @return elements of any list, equal elements are taken from <code>a</code> first
+     */
+    public static <E> SimpleList<E> union(SimpleList<? extends E> a, SimpleList<? extends E> b, Comparator<? super E> comparator, boolean parallel) {
+        return operation(Operation.UNION, a, b, comparator, parallel);
+    }
+
+    public static <E> SimpleList<E> difference(SimpleList<? extends E> a, SimpleList<? extends E> b, Comparator<? super E> comparator) {
+        return operation(Operation.DIFFERENCE, a, b, comparator, false);
+    }
+
+    /**
+     * @return elements of <code>a</code> that are not matched by elements of <code>b</code>
+     */
+    public static <E> SimpleList<E> difference(SimpleList<? extends E> a, SimpleList<? extends E> b, Comparator<? super E> comparator, boolean parallel) {
+        return operation(Operation.DIFFERENCE, a, b, comparator, parallel);
+    }
+
+    private static <E> SimpleList<E> operation(Operation operation, SimpleList<? extends E> a, SimpleList<? extends E> b, Comparator<? super E> comparator, boolean parallel) {
+        Objects.requireNonNull(comparator);
+        Object[][] arrays = { a.array(), b.array() };
+        int[] counts = { a.size(), b.size() };
+        int[][] bounds = split(arrays, counts, comparator, ranges(Math.addExact(counts[0], counts[1]), parallel));
+        if (bounds.length == 2) {
+            return operation(operation, arrays, bounds[0], bounds[1], comparator);
+        }
+        SimpleList<?>[] partials = IntStream.range(0, bounds.length - 1).parallel()
+            .mapToObj(range -> operation(operation, arrays, bounds[range], bounds[range + 1], comparator))
+            .toArray(SimpleList<?>[]::new);
+        int total = 0;
+        for (SimpleList<?> partial : partials) {
+            total = total + partial.size();
+        }
+        return concat(partials, total);
+    }
+
+    /**
+     * @return result of range with internal array reserved for the largest possible result
+     */
+    private static <E> SimpleList<E> operation(Operation operation, Object[][] arrays, int[] from, int[] to, Comparator<? super E> comparator) {
+        Object[] a = arrays[0];
+        Object[] b = arrays[1];
+        int i = from[0];
+        int j = from[1];
+        int n = to[0];
+        int m = to[1];
+        SimpleList<E> result = reserved(switch (operation) {
+            case INTERSECTION -> Math.min(n - i, m - j);
+            case UNION -> n - i + m - j;
+            case DIFFERENCE -> n - i;
+        });
+        while (i < n && j < m) {
+            E left = element(a, i);
+            E right = element(b, j);
+            int compared = comparator.compare(left, right);
+            if (compared < 0) {
+                if (operation != Operation.INTERSECTION) {
+                    result.add(left);
+                }
+                i = i + 1;
+            }
+            else if (compared > 0) {
+                if (operation == Operation.UNION) {
+                    result.add(right);
+                }
+                j = j + 1;
+            }
+            else {
+                if (operation != Operation.DIFFERENCE) {
+                    result.add(left);
+                }
+                i = i + 1;
+                j = j + 1;
+            }
+        }
+        if (operation != Operation.INTERSECTION && i < n) {
+            @SuppressWarnings("unchecked")
+            E[] rest = (E[]) a;
+            result.addAll(rest, i, n);
+        }
+        if (operation == Operation.UNION && j < m) {
+            @SuppressWarnings("unchecked")
+            E[] rest = (E[]) b;
+            result.addAll(rest, j, m);
+        }
+        return result;
+    }
+
+    /**
+     * @return <code>ranges + 1</code> borders, border <code>r</code> holds start index of range <code>r</code> in every source
+     */
+    private static <E> int[][] split(Object[][] arrays, int[] counts, Comparator<? super E> comparator, int ranges) {
+        int[][] bounds = new int[ranges + 1][];
+        bounds[0] = new int[arrays.length];
+        bounds[ranges] = counts.clone();
+        int largest = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > counts[largest]) {
+                largest = i;
+            }
+        }
+        for (int range = 1; range < ranges; range++) {
+            E splitter = element(arrays[largest], (int) ((long) counts[largest] * range / ranges));
+            bounds[range] = new int[arrays.length];
+            for (int i = 0; i < arrays.length; i++) {
+                bounds[range][i] = lowerBound(arrays[i], counts[i], splitter, comparator);
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * @return index of first element that is not less than <code>key</code>
+     */
+    private static <E> int lowerBound(Object[] array, int count, E key, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(element(array, middle), key) < 0) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int ranges(int total, boolean parallel) {
+        if (!parallel) {
+            return 1;
+        }
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, total / MIN_RANGE));
+    }
+
+    private static <E> SimpleList<E> concat(SimpleList<?>[] partials, int total) {
+        SimpleList<E> result = reserved(total);
+        for (SimpleList<?> partial : partials) {
+            @SuppressWarnings("unchecked")
+            SimpleList<E> elements = (SimpleList<E>) partial;
+            result.addAll(elements);
+        }
+        return result;
+    }
+
+    private static <E> SimpleList<E> reserved(int size) {
+        SimpleList<E> list = new SimpleList<>();
+        list.reserve(size);
+        return list;
+    }
+
+    private static int sum(int[] values) {
+        int sum = 0;
+        for (int value : values) {
+            sum = sum + value;
+        }
+        return sum;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E element(Object[] array, int index) {
+        return (E) array[index];
+    }
+
+}
@@ -0,0 +1,342 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append only list that publishes its elements to {@link Flow.Subscriber}s. <br />
+ *
+ * <p>Every subscriber receives all elements added so far and follows new appends
+ * until {@link #close()}, after the last element {@link Flow.Subscriber#onComplete()}
+ * is called. Each subscription keeps own cursor index into the shared internal array,
+ * elements are never copied per subscriber. Backpressure is honored through
+ * {@link Flow.Subscription#request(long)}.</p>
+ *
+ * <p><b>Threading:</b></p>
+ * <p>{@link #add(Object)}, {@link #addAll(Collection)} and {@link #close()} must be
+ * called from one producer thread and never block, they only publish the new size and
+ * signal subscriptions. Subscribers are served on executor in batches of at most
+ * <code>batchSize</code> elements, after each batch the subscription is rescheduled so
+ * slow subscribers do not hold executor threads. {@link #size()} and {@link #get(int)}
+ * may be called from any thread.</p>
+ *
+ * <p><b>Failures:</b></p>
+ * <p>Exception thrown by subscriber from {@link Flow.Subscriber#onSubscribe(Flow.Subscription)},
+ * {@link Flow.Subscriber#onNext(Object)} and
+ * {@link RejectedExecutionException} of executor cancel the subscription and are passed
+ * to {@link Flow.Subscriber#onError(Throwable)}, other subscriptions and the producer
+ * are not affected. Appends are never rejected because of a failed subscription.</p>
+ *
+ * <p>Internal array grows with the same rules as {@link SimpleList} internal array.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+public class SimpleListPublisher<E> implements Flow.Publisher<E>, AutoCloseable {
+
+    private final Executor executor;
+    private final int batchSize;
+    private final int initial;
+    private final int additional;
+    private final CopyOnWriteArrayList<ListSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile Object[] data;
+    private volatile int count;
+    private volatile boolean closed;
+
+    /**
+     * Publisher that serves subscribers in common {@link ForkJoinPool} with batches of {@link Flow#defaultBufferSize()}.
+     */
+    public SimpleListPublisher() {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * @param executor serves subscribers
+     * @param batchSize maximal amount of elements passed to one subscriber in one executor task
+     */
+    public SimpleListPublisher(Executor executor, int batchSize) {
+        this(executor, batchSize, SimpleList.DEFAULT_INITIAL, SimpleList.DEFAULT_ADDITIONAL);
+    }
+
+    /**
+     * @param executor serves subscribers
+     * @param batchSize maximal amount of elements passed to one subscriber in one executor task
+     * @param initial amount of elements that will be added to size of internal array on initial initialization step.
+     * @param additional amount of elements that will be added to size of internal array on resize array step.
+     */
+    public SimpleListPublisher(Executor executor, int batchSize, int initial, int additional) {
+        super();
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid batch size: [%s]", batchSize));
+        }
+        if (initial < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (additional < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.batchSize = batchSize;
+        this.initial = initial;
+        this.additional = additional;
+    }
+
+    private Object[] increaseIfNecessary(int incomingCount) {
+        Object[] current = data;
+        if (current == null) {
+            current = new Object[incomingCount + initial];
+            data = current;
+        }
+        else {
+            int free = current.length - count;
+            int totalCount = count + incomingCount;
+            if (free < incomingCount) {
+                int newSize = totalCount + additional;
+                Object[] largeStorage = new Object[newSize];
+                System.arraycopy(current, 0, largeStorage, 0, count);
+                current = largeStorage;
+                data = current;
+            }
+        }
+        return current;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Publisher is closed");
+        }
+    }
+
+    private void signalAll() {
+        for (ListSubscription subscription : subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        int published = count;
+        if (published < 1 || index > published -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (E) data[index];
+    }
+
+    public boolean add(E e) {
+        checkOpen();
+        Object[] target = increaseIfNecessary(1);
+        target[count] = e;
+        count = count + 1;
+        signalAll();
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends E> c) {
+        checkOpen();
+        Object[] incoming = c.toArray();
+        if (incoming.length < 1) {
+            return false;
+        }
+        Object[] target = increaseIfNecessary(incoming.length);
+        System.arraycopy(incoming, 0, target, count, incoming.length);
+        count = count + incoming.length;
+        signalAll();
+        return true;
+    }
+
+    /**
+     * @return amount of subscriptions that are neither completed nor cancelled
+     */
+    int subscribers() {
+        return subscriptions.size();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Completes every subscription after its last element, further appends are rejected.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            signalAll();
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        ListSubscription subscription = new ListSubscription(Objects.requireNonNull(subscriber));
+        subscriptions.add(subscription);
+        try {
+            subscriber.onSubscribe(subscription);
+        }
+        catch (Throwable e) {
+            subscription.fail(e);
+            return;
+        }
+        subscription.execute();
+    }
+
+    private final class ListSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super E> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        /**
+         * Starts owned by subscribing thread, so no element is emitted before {@link Flow.Subscriber#onSubscribe(Flow.Subscription)} returns.
+         */
+        private final AtomicInteger wip = new AtomicInteger(1);
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private int cursor;
+
+        private ListSubscription(Flow.Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                execute();
+            }
+        }
+
+        /**
+         * Schedules drain, caller owns {@link #wip}.
+         */
+        private void execute() {
+            try {
+                executor.execute(this);
+            }
+            catch (RejectedExecutionException e) {
+                fail(e);
+                wip.set(0);
+            }
+        }
+
+        /**
+         * Cancels subscription and passes <code>error</code> to subscriber, caller owns {@link #wip}.
+         */
+        private void fail(Throwable error) {
+            cancel();
+            try {
+                subscriber.onError(error);
+            }
+            catch (Throwable ignored) {
+                // subscription is already terminated, nothing left to signal
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n < 1) {
+                invalidRequest = new IllegalArgumentException(String.format("Invalid request: [%s]", n));
+            }
+            else {
+                requested.accumulateAndGet(n, (current, incoming) -> {
+                    long sum = current + incoming;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            boolean more = false;
+            try {
+                while (missed != 0) {
+                    more = emit();
+                    if (more) {
+                        break;
+                    }
+                    missed = wip.addAndGet(-missed);
+                }
+            }
+            finally {
+                if (more) {
+                    execute();
+                }
+                else if (missed != 0) {
+                    cancel();
+                    wip.set(0);
+                }
+            }
+        }
+
+        /**
+         * @return <code>true</code> if batch is exhausted and further elements are available
+         */
+        @SuppressWarnings("unchecked")
+        private boolean emit() {
+            if (cancelled) {
+                return false;
+            }
+            if (invalidRequest != null) {
+                fail(invalidRequest);
+                return false;
+            }
+            boolean done = closed;
+            int published = count;
+            Object[] elements = data;
+            long demand = requested.get();
+            int emitted = 0;
+            while (cursor < published && emitted < demand && emitted < batchSize) {
+                if (cancelled) {
+                    return false;
+                }
+                try {
+                    subscriber.onNext((E) elements[cursor]);
+                }
+                catch (Throwable e) {
+                    fail(e);
+                    return false;
+                }
+                cursor = cursor + 1;
+                emitted = emitted + 1;
+            }
+            if (emitted > 0 && demand != Long.MAX_VALUE) {
+                demand = requested.addAndGet(-emitted);
+            }
+            if (cancelled) {
+                return false;
+            }
+            if (done && cursor == published) {
+                cancel();
+                try {
+                    subscriber.onComplete();
+                }
+                catch (Throwable ignored) {
+                    // subscription is already terminated, nothing left to signal
+                }
+                return false;
+            }
+            return emitted == batchSize && cursor < published && demand > 0;
+        }
+    }
+
+}
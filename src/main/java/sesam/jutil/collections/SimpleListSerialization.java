@@ -0,0 +1,135 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.function.Consumer;
+
+/**
+ * Length prefixed binary format of {@link SimpleList}. <br />
+ *
+ * <p><b>Format:</b></p>
+ * <pre>
+ * int  magic   {@link #MAGIC}
+ * byte version {@link #VERSION}
+ * int  count
+ * count elements, each one written by {@link ElementCodec}
+ * </pre>
+ *
+ * <p>{@link #read(DataInput, ElementCodec)} trusts <code>count</code> only up to
+ * {@link #MAX_RESERVE} elements for up front allocation, larger lists double their
+ * internal array as elements actually arrive, so a corrupted header can not trigger
+ * an allocation far beyond the stream size. Lists up to {@link #MAX_RESERVE} elements
+ * are allocated once with exactly <code>count</code> elements. Readers never
+ * consume bytes after the last element, so several lists can follow each other
+ * in one stream. Reading from {@link InputStream} does not buffer, pass
+ * a {@link java.io.BufferedInputStream} for unbuffered sources.</p>
+ *
+ * @author Sergej Samsonow
+ */
+public final class SimpleListSerialization {
+
+    /**
+     * Format marker, ASCII <code>SLST</code>.
+     */
+    public static final int MAGIC = 0x534C5354;
+
+    /**
+     * Current format version.
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * Upper bound of elements reserved from header count before any element is read.
+     */
+    public static final int MAX_RESERVE = 1 << 16;
+
+    private SimpleListSerialization() {
+        super();
+    }
+
+    public static <E> void write(SimpleList<? extends E> list, ElementCodec<E> codec, DataOutput out) throws IOException {
+        int count = list.size();
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(count);
+        for (int i = 0; i < count; i++) {
+            codec.write(out, list.get(i));
+        }
+    }
+
+    /**
+     * Writes list through internal buffer and flushes stream, stream is not closed.
+     */
+    public static <E> void write(SimpleList<? extends E> list, ElementCodec<E> codec, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        write(list, codec, (DataOutput) data);
+        data.flush();
+    }
+
+    private static int readHeader(DataInput in) throws IOException {
+        int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new StreamCorruptedException(String.format("Invalid magic: [%s]", Integer.toHexString(magic)));
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException(String.format("Invalid version: [%s]", version));
+        }
+        int count = in.readInt();
+        if (count < 0) {
+            throw new StreamCorruptedException(String.format("Invalid count: [%s]", count));
+        }
+        return count;
+    }
+
+    public static <E> SimpleList<E> read(DataInput in, ElementCodec<E> codec) throws IOException {
+        int count = readHeader(in);
+        SimpleList<E> list = new SimpleList<>();
+        list.reserve(Math.min(count, MAX_RESERVE));
+        for (int i = 0; i < count; i++) {
+            if (list.size() == list.capacity()) {
+                list.reserve(Math.min(count - i, i));
+            }
+            list.add(codec.read(in));
+        }
+        return list;
+    }
+
+    public static <E> SimpleList<E> read(InputStream in, ElementCodec<E> codec) throws IOException {
+        return read((DataInput) new DataInputStream(in), codec);
+    }
+
+    /**
+     * Streaming read, elements are passed to consumer one by one without building a list.
+     *
+     * @return amount of elements read
+     */
+    public static <E> int read(DataInput in, ElementCodec<E> codec, Consumer<? super E> consumer) throws IOException {
+        int count = readHeader(in);
+        for (int i = 0; i < count; i++) {
+            consumer.accept(codec.read(in));
+        }
+        return count;
+    }
+
+    /**
+     * Streaming read, elements are passed to consumer one by one without building a list.
+     *
+     * @return amount of elements read
+     */
+    public static <E> int read(InputStream in, ElementCodec<E> codec, Consumer<? super E> consumer) throws IOException {
+        return read((DataInput) new DataInputStream(in), codec, consumer);
+    }
+
+}
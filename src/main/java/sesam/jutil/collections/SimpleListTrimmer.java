@@ -0,0 +1,216 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationFilter;
+import javax.management.NotificationListener;
+
+/**
+ * Opt-in registry that trims spare capacity of idle lists under heap pressure. <br />
+ *
+ * <p>Lists are registered weakly and never kept alive by the registry. Each
+ * {@link #sweep()} calls <code>trimToSize()</code> on every registered list
+ * whose size did not change since the previous sweep, so a list is trimmed after
+ * two sweeps without appends.</p>
+ *
+ * <p><b>Threading:</b></p>
+ * <p>Registered lists are not thread safe and <code>trimToSize()</code> replaces their
+ * internal array, so lists are trimmed only in {@link #sweep()} and {@link #sweepIfPressure()}
+ * calls of the thread that owns the lists. Use one trimmer per owner thread. Registry
+ * methods themselves are thread safe.</p>
+ *
+ * <p><b>Heap pressure:</b></p>
+ * <p>After {@link #install(double)} {@link MemoryNotificationInfo#MEMORY_COLLECTION_THRESHOLD_EXCEEDED}
+ * notifications of heap memory pools never touch lists. The JMX notification thread only
+ * sets pressure flag and runs pressure listeners ({@link #addPressureListener(Runnable)}),
+ * which should hand work over to the owner thread, for example by submitting a task to its
+ * executor. Owner thread calls {@link #sweepIfPressure()}, for example from its event loop.</p>
+ *
+ * @author Sergej Samsonow
+ */
+public class SimpleListTrimmer implements NotificationListener {
+
+    private static final NotificationFilter COLLECTION_THRESHOLD_EXCEEDED = notification ->
+        MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType());
+
+    private final List<Entry<?>> entries = new ArrayList<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean pressure = new AtomicBoolean();
+    private boolean installed;
+
+    private static final class Entry<T> {
+
+        private final WeakReference<T> list;
+        private final ToIntFunction<T> size;
+        private final Consumer<T> trim;
+        private int lastSize = -1;
+
+        private Entry(T list, ToIntFunction<T> size, Consumer<T> trim) {
+            this.list = new WeakReference<>(list);
+            this.size = size;
+            this.trim = trim;
+        }
+
+        /**
+         * @return <code>true</code> if list was trimmed
+         */
+        private boolean sweep() {
+            T current = list.get();
+            if (current == null) {
+                return false;
+            }
+            int currentSize = size.applyAsInt(current);
+            boolean idle = currentSize == lastSize;
+            if (idle) {
+                trim.accept(current);
+            }
+            lastSize = currentSize;
+            return idle;
+        }
+    }
+
+    public synchronized void register(SimpleList<?> list) {
+        entries.add(new Entry<>(list, SimpleList::size, SimpleList::trimToSize));
+    }
+
+    public synchronized void register(SimpleIntList list) {
+        entries.add(new Entry<>(list, SimpleIntList::size, SimpleIntList::trimToSize));
+    }
+
+    public synchronized void register(SimpleLongList list) {
+        entries.add(new Entry<>(list, SimpleLongList::size, SimpleLongList::trimToSize));
+    }
+
+    public synchronized void register(SimpleDoubleList list) {
+        entries.add(new Entry<>(list, SimpleDoubleList::size, SimpleDoubleList::trimToSize));
+    }
+
+    /**
+     * @return amount of registered lists that are not garbage collected yet
+     */
+    public synchronized int size() {
+        entries.removeIf(entry -> entry.list.get() == null);
+        return entries.size();
+    }
+
+    /**
+     * Trims lists that are idle since previous sweep and drops garbage collected lists,
+     * must be called from the thread that owns registered lists.
+     *
+     * @return amount of trimmed lists
+     */
+    public synchronized int sweep() {
+        entries.removeIf(entry -> entry.list.get() == null);
+        int trimmed = 0;
+        for (Entry<?> entry : entries) {
+            if (entry.sweep()) {
+                trimmed = trimmed + 1;
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * Sweeps if heap pressure was signaled since previous call, must be called from
+     * the thread that owns registered lists.
+     *
+     * @return <code>true</code> if sweep was done
+     */
+    public boolean sweepIfPressure() {
+        if (pressure.getAndSet(false)) {
+            sweep();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return <code>true</code> if heap pressure was signaled and not handled by {@link #sweepIfPressure()} yet
+     */
+    public boolean isUnderPressure() {
+        return pressure.get();
+    }
+
+    /**
+     * @param listener runs on JMX notification thread after pressure flag is set, must not touch registered lists
+     */
+    public void addPressureListener(Runnable listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    public void removePressureListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Sets collection usage threshold of every heap memory pool that supports it and signals
+     * heap pressure as soon as a threshold is exceeded. Thresholds are JVM wide settings and
+     * stay in place after {@link #uninstall()}.
+     *
+     * @param usage threshold as part of pool maximum in range <code>(0, 1]</code>
+     */
+    public synchronized void install(double usage) {
+        if (!(usage > 0 && usage <= 1)) {
+            throw new IllegalArgumentException(String.format("Invalid usage threshold: [%s]", usage));
+        }
+        if (installed) {
+            throw new IllegalStateException("Trimmer is already installed");
+        }
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            long max = pool.getUsage().getMax();
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported() && max > 0) {
+                pool.setCollectionUsageThreshold((long) (max * usage));
+            }
+        }
+        NotificationEmitter emitter = (NotificationEmitter) ManagementFactory.getMemoryMXBean();
+        emitter.addNotificationListener(this, COLLECTION_THRESHOLD_EXCEEDED, null);
+        installed = true;
+    }
+
+    /**
+     * Stops signaling heap pressure on memory notifications.
+     */
+    public synchronized void uninstall() {
+        if (installed) {
+            try {
+                ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(this);
+            }
+            catch (ListenerNotFoundException e) {
+                // already removed
+            }
+            installed = false;
+        }
+    }
+
+    /**
+     * Sets pressure flag and runs pressure listeners, registered lists are not touched.
+     */
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (COLLECTION_THRESHOLD_EXCEEDED.isNotificationEnabled(notification)) {
+            pressure.set(true);
+            for (Runnable listener : listeners) {
+                listener.run();
+            }
+        }
+    }
+
+}
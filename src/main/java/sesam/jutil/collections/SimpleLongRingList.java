@@ -0,0 +1,164 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Fixed capacity ring buffer of <code>long</code> values. <br />
+ *
+ * <p>Primitive variant of {@link SimpleRingList}. Internal array is allocated once
+ * in constructor, neither {@link #add(long)} nor window statistics
+ * ({@link #sum()}, {@link #min()}, {@link #max()}, {@link #mean()},
+ * {@link #countInRange(long, long)}) allocate memory.</p>
+ *
+ * @author Sergej Samsonow
+ */
+@NotThreadSafe
+public class SimpleLongRingList {
+
+    private final long[] data;
+    private int head;
+    private int count;
+
+    /**
+     * @param capacity maximal amount of stored values
+     */
+    public SimpleLongRingList(int capacity) {
+        super();
+        if (capacity < 1) {
+            throw new IllegalArgumentException(String.format("Invalid capacity: [%s]", capacity));
+        }
+        data = new long[capacity];
+    }
+
+    private int position(int index) {
+        int position = head + index;
+        return position < data.length ? position : position - data.length;
+    }
+
+    private int firstEnd() {
+        return Math.min(head + count, data.length);
+    }
+
+    private int secondEnd() {
+        return count - (firstEnd() - head);
+    }
+
+    /**
+     * @return maximal amount of stored values
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * @return true if next {@link #add(long)} overwrites the oldest value
+     */
+    public boolean isFull() {
+        return count == data.length;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Appends value, overwrites the oldest value if list is full.
+     */
+    public boolean add(long value) {
+        if (count < data.length) {
+            data[position(count)] = value;
+            count = count + 1;
+        }
+        else {
+            data[head] = value;
+            head = position(1);
+        }
+        return true;
+    }
+
+    /**
+     * @param index relative to the oldest value
+     */
+    public long get(int index) {
+        if (count < 1 || index > count -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return data[position(index)];
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    public int indexOf(long value) {
+        for (int i = 0; i < count; i++) {
+            if (data[position(i)] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * @return values from the oldest to the newest one
+     */
+    public long[] toArray() {
+        long[] result = new long[count];
+        int first = firstEnd() - head;
+        System.arraycopy(data, head, result, 0, first);
+        System.arraycopy(data, 0, result, first, count - first);
+        return result;
+    }
+
+    public long sum() {
+        return PrimitiveKernels.sum(data, head, firstEnd()) + PrimitiveKernels.sum(data, 0, secondEnd());
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public long min() {
+        PrimitiveKernels.checkNotEmpty(0, count);
+        return Math.min(PrimitiveKernels.min(data, head, firstEnd()), PrimitiveKernels.min(data, 0, secondEnd()));
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public long max() {
+        PrimitiveKernels.checkNotEmpty(0, count);
+        return Math.max(PrimitiveKernels.max(data, head, firstEnd()), PrimitiveKernels.max(data, 0, secondEnd()));
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    public double mean() {
+        PrimitiveKernels.checkNotEmpty(0, count);
+        return (double) sum() / count;
+    }
+
+    /**
+     * @param lower inclusive lower bound
+     * @param upper exclusive upper bound
+     * @return amount of values in <code>[lower, upper)</code>
+     */
+    public int countInRange(long lower, long upper) {
+        return PrimitiveKernels.count(data, head, firstEnd(), lower, upper)
+                + PrimitiveKernels.count(data, 0, secondEnd(), lower, upper);
+    }
+
+}
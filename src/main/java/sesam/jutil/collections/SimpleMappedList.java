@@ -0,0 +1,189 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Read only memoizing view of {@link SimpleList} with mapped elements, created with
+ * {@link SimpleList#mapView(Function)}. <br />
+ *
+ * <p>Element <code>i</code> is computed with mapping function on first {@link #get(int)}
+ * and cached, so sparse access pays only for elements that are read. Cache array is
+ * allocated on first access. {@link #materialize(boolean)} computes all remaining
+ * elements at once, optionally in parallel.</p>
+ *
+ * <p>View covers source elements that exist at creation time, later appends to source are
+ * not visible. Source must not be cleared while view is in use. Mapping function may return
+ * <code>null</code> and must be side effect free, it is called at most once per element.</p>
+ *
+ * <p>Supports same read methods as {@link SimpleList}, search methods and
+ * {@link #equals(Object)}, {@link #hashCode()} compute all elements. Any
+ * modification method throws {@link UnsupportedOperationException}</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <S> source element type
+ * @param <E> mapped element type
+ */
+@NotThreadSafe
+public class SimpleMappedList<S, E> extends AbstractSimpleList<E> {
+
+    /**
+     * Marks elements that are not computed yet, <code>null</code> is a valid mapped element.
+     */
+    private static final Object UNSET = new Object();
+
+    private final SimpleList<S> source;
+    private final Function<? super S, ? extends E> mapper;
+    private final int count;
+    private Object[] cache;
+    private int computed;
+
+    SimpleMappedList(SimpleList<S> source, Function<? super S, ? extends E> mapper) {
+        this.source = Objects.requireNonNull(source);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.count = source.size();
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return amount of elements that are already computed
+     */
+    public int computed() {
+        return computed;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (count < 1 || index > count -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (cache == null) {
+            allocate();
+        }
+        Object value = cache[index];
+        if (value == UNSET) {
+            value = mapper.apply(source.get(index));
+            cache[index] = value;
+            computed = computed + 1;
+        }
+        return (E) value;
+    }
+
+    private void allocate() {
+        cache = new Object[count];
+        Arrays.fill(cache, UNSET);
+    }
+
+    /**
+     * Computes every element that is not computed yet. Parallel materialization
+     * runs mapping function on common fork join pool and writes disjoint cache slots.
+     *
+     * @return this view
+     */
+    public SimpleMappedList<S, E> materialize(boolean parallel) {
+        if (computed == count) {
+            return this;
+        }
+        if (cache == null) {
+            allocate();
+        }
+        Object[] target = cache;
+        IntStream indexes = IntStream.range(0, count);
+        if (parallel) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            if (target[i] == UNSET) {
+                target[i] = mapper.apply(source.get(i));
+            }
+        });
+        computed = count;
+        return this;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < count; i++) {
+            if (Objects.equals(get(i), o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = count - 1; i > -1; i--) {
+            if (Objects.equals(get(i), o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        materialize(false);
+        return count == 0 ? new Object[0] : cache.clone();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        materialize(false);
+        if (count > 0) {
+            if (a.length < count) {
+                return (T[]) Arrays.copyOf(cache, count, a.getClass());
+            }
+            System.arraycopy(cache, 0, a, 0, count);
+            if (a.length > count) {
+                a[count] = null;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws {@link UnsupportedOperationException}
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,46 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Objects;
+
+/**
+ * Bounded lock free multi producer / single consumer queue. <br />
+ *
+ * <p>{@link #offer(Object)} may be called from any thread, {@link #poll()} and
+ * {@link #drainTo(SimpleList, int)} from one consumer thread. Producers claim a
+ * slot with compare and set on padded producer sequence and publish element
+ * afterwards, {@link #drainTo(SimpleList, int)} stops at the first claimed but not
+ * yet published slot.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+public class SimpleMpscQueue<E> extends AbstractSimpleQueue<E> {
+
+    /**
+     * @param capacity maximal amount of queued elements, rounded up to the next power of two
+     */
+    public SimpleMpscQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long index;
+        do {
+            index = (long) PRODUCER_INDEX.getVolatile(this);
+            if (index - (long) CONSUMER_INDEX.getAcquire(this) >= buffer.length) {
+                return false;
+            }
+        }
+        while (!PRODUCER_INDEX.compareAndSet(this, index, index + 1));
+        ELEMENTS.setRelease(buffer, offset(index), e);
+        return true;
+    }
+
+}
@@ -0,0 +1,232 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Fixed memory quantile sketch of non negative <code>long</code> values like latencies. <br />
+ *
+ * <p>Log linear histogram in style of HDR histograms: values below <code>2^precision</code>
+ * are counted exactly, every following power of two range is split into
+ * <code>2^(precision - 1)</code> buckets of equal width. {@link #quantile(double)} returns
+ * middle of the bucket that holds requested rank, relative error is at most
+ * <code>2^-precision</code>, smallest and largest rank return exact {@link #min()} and
+ * {@link #max()}. With {@link #DEFAULT_PRECISION} sketch takes 7296 counters and
+ * error is below 0.4 percent.</p>
+ *
+ * <p>Adding is one array increment, quantile query scans counters and does not depend on
+ * amount of values. Sketches of equal precision can be combined with {@link #merge(SimpleQuantileSketch)}.</p>
+ *
+ * <p><b>Feeding:</b></p>
+ * <p>Values are added directly with {@link #add(long)} or taken from an append only
+ * {@link SimpleLongList} after {@link #attach(SimpleLongList)}: every {@link #update()}
+ * consumes values appended since previous update.</p>
+ *
+ * @author Sergej Samsonow
+ */
+@NotThreadSafe
+public class SimpleQuantileSketch {
+
+    public static final int DEFAULT_PRECISION = 8;
+
+    private final int precision;
+    private final int exact;
+    private final int half;
+    private final long[] counts;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private SimpleLongList source;
+    private int position;
+
+    public SimpleQuantileSketch() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * @param precision bits of precision in range <code>[2, 16]</code>
+     */
+    public SimpleQuantileSketch(int precision) {
+        if (precision < 2 || precision > 16) {
+            throw new IllegalArgumentException(String.format("Invalid precision: [%s]", precision));
+        }
+        this.precision = precision;
+        this.exact = 1 << precision;
+        this.half = exact >>> 1;
+        this.counts = new long[exact + (63 - precision) * half];
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * @throws IllegalArgumentException if value is negative
+     */
+    public void add(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("Invalid value: [%s]", value));
+        }
+        counts[index(value)]++;
+        total = total + 1;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    public void addAll(SimpleLongList list) {
+        addAll(list, 0, list.size());
+    }
+
+    private void addAll(SimpleLongList list, int from, int to) {
+        long[] data = list.array();
+        for (int i = from; i < to; i++) {
+            add(data[i]);
+        }
+    }
+
+    /**
+     * Attaches append only list, values are consumed on {@link #update()} starting at first value.
+     *
+     * @return this instance
+     */
+    public SimpleQuantileSketch attach(SimpleLongList list) {
+        source = Objects.requireNonNull(list);
+        position = 0;
+        return this;
+    }
+
+    /**
+     * Consumes values appended to attached list since previous update.
+     *
+     * @return amount of consumed values
+     * @throws IllegalStateException if no list is attached or attached list was cleared
+     */
+    public int update() {
+        if (source == null) {
+            throw new IllegalStateException("No list attached");
+        }
+        int end = source.size();
+        if (end < position) {
+            throw new IllegalStateException(String.format("Invalid attached list size: [%s]", end));
+        }
+        addAll(source, position, end);
+        int consumed = end - position;
+        position = end;
+        return consumed;
+    }
+
+    /**
+     * @return amount of added values
+     */
+    public long count() {
+        return total;
+    }
+
+    /**
+     * @throws NoSuchElementException if sketch is empty
+     */
+    public long min() {
+        checkNotEmpty();
+        return min;
+    }
+
+    /**
+     * @throws NoSuchElementException if sketch is empty
+     */
+    public long max() {
+        checkNotEmpty();
+        return max;
+    }
+
+    /**
+     * @param quantile in range <code>[0, 1]</code>, <code>0.99</code> is 99th percentile
+     * @return approximated value with rank <code>ceil(quantile * count())</code>
+     * @throws NoSuchElementException if sketch is empty
+     */
+    public long quantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException(String.format("Invalid quantile: [%s]", quantile));
+        }
+        checkNotEmpty();
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        if (rank == 1) {
+            return min;
+        }
+        if (rank >= total) {
+            return max;
+        }
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen = seen + counts[index];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, value(index)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Adds counts of <code>other</code> sketch.
+     *
+     * @throws IllegalArgumentException if precision of sketches differs
+     */
+    public void merge(SimpleQuantileSketch other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException(String.format("Invalid precision: [%s]", other.precision));
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = counts[i] + other.counts[i];
+        }
+        total = total + other.total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Removes counted values, attached list stays attached at current position.
+     */
+    public void clear() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        total = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+
+    private void checkNotEmpty() {
+        if (total == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private int index(long value) {
+        if (value < exact) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (precision - 1);
+        return exact + (shift - 1) * half + (int) ((value >>> shift) - half);
+    }
+
+    /**
+     * @return middle of bucket range
+     */
+    private long value(int index) {
+        if (index < exact) {
+            return index;
+        }
+        int bucket = index - exact;
+        int shift = bucket / half + 1;
+        long lower = (long) (bucket % half + half) << shift;
+        return lower + ((1L << shift) >>> 1);
+    }
+
+}
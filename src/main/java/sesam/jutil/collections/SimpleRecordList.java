@@ -0,0 +1,389 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Append only, column oriented list of {@link Record} values. <br />
+ *
+ * <p>Every record component is stored in own column array, primitive components
+ * in primitive arrays (<code>int[]</code>, <code>long[]</code>, <code>double[]</code>, ...)
+ * and any other component in <code>Object[]</code>. Record instances are not
+ * kept, they are created on each {@link #get(int)} call.</p>
+ *
+ * <p>Component values move between records and columns through method handles that are
+ * typed with component type, so {@link #add(Record)}, {@link #get(int)} and
+ * {@link #indexOf(Object)} do not box primitive components.</p>
+ *
+ * <p>Columns grow together with the same rules as {@link SimpleList} internal array:
+ * <code>initial</code> elements on first initialization step and <code>additional</code>
+ * elements on each resize array step.</p>
+ *
+ * <p><b>Column access:</b></p>
+ * <p>{@link #intColumn(String)}, {@link #longColumn(String)}, {@link #doubleColumn(String)}
+ * and {@link #column(String)} return internal column array. Only range <code>[0, size())</code>
+ * contains valid values and the array is replaced by a larger one on resize array step,
+ * so it should not be kept across {@link #add(Record)} calls.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <R>
+ */
+@NotThreadSafe
+public class SimpleRecordList<R extends Record> implements Iterable<R> {
+
+    private final Class<R> type;
+    private final String[] names;
+    private final Class<?>[] types;
+    private final MethodHandle[] setters;
+    private final MethodHandle[] matchers;
+    private final MethodHandle factory;
+    private final Object[] columns;
+    private int count;
+    private int initial     = SimpleList.DEFAULT_INITIAL;
+    private int additional  = SimpleList.DEFAULT_ADDITIONAL;
+
+    /**
+     * Default constructor.
+     *
+     * @param type record class
+     * @throws IllegalArgumentException if record class or its canonical constructor is not accessible
+     */
+    public SimpleRecordList(Class<R> type) {
+        super();
+        this.type = Objects.requireNonNull(type);
+        RecordComponent[] components = type.getRecordComponents();
+        if (components == null) {
+            throw new IllegalArgumentException(String.format("Not a record class: [%s]", type.getName()));
+        }
+        names = new String[components.length];
+        types = new Class<?>[components.length];
+        setters = new MethodHandle[components.length];
+        matchers = new MethodHandle[components.length];
+        columns = new Object[components.length];
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            for (int i = 0; i < components.length; i++) {
+                names[i] = components[i].getName();
+                types[i] = components[i].getType();
+            }
+            Constructor<R> canonical = type.getDeclaredConstructor(types);
+            MethodHandle create = lookup.unreflectConstructor(accessible(canonical));
+            int[] reorder = new int[2 * components.length];
+            for (int i = 0; i < components.length; i++) {
+                Class<?> component = types[i];
+                Class<?> array = component.arrayType();
+                // (Object) -> component
+                MethodHandle accessor = lookup.unreflect(accessible(components[i].getAccessor()))
+                        .asType(MethodType.methodType(component, Object.class));
+                // (Object[] columns) -> typed column array
+                MethodHandle column = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, i)
+                        .asType(MethodType.methodType(array, Object[].class));
+                // (Object[] columns, int index) -> component
+                MethodHandle element = MethodHandles.filterArguments(MethodHandles.arrayElementGetter(array), 0, column);
+                // (Object[] columns, int index, Object record) -> void
+                setters[i] = MethodHandles.filterArguments(
+                        MethodHandles.filterArguments(MethodHandles.arrayElementSetter(array), 0, column), 2, accessor);
+                // (Object[] columns, int index, Object record) -> boolean
+                matchers[i] = MethodHandles.filterArguments(
+                        MethodHandles.collectArguments(same(lookup, component), 0, element), 2, accessor);
+                create = MethodHandles.collectArguments(create, 2 * i, element);
+                reorder[2 * i] = 0;
+                reorder[2 * i + 1] = 1;
+            }
+            // (Object[] columns, int index) -> record
+            factory = MethodHandles.permuteArguments(create, MethodType.methodType(type, Object[].class, int.class), reorder)
+                    .asType(MethodType.methodType(Object.class, Object[].class, int.class));
+        }
+        catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new IllegalArgumentException(String.format("Record class is not accessible: [%s]", type.getName()), e);
+        }
+    }
+
+    /**
+     * Default constructor with customized internal array initialization.
+     *
+     * @param type record class
+     * @param initial amount of elements that will be added to size of internal arrays on initial initialization step.
+     * @param additional amount of elements that will be added to size of internal arrays on resize array step.
+     */
+    public SimpleRecordList(Class<R> type, int initial, int additional) {
+        this(type);
+        if (initial < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (additional < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.initial = initial;
+        this.additional = additional;
+    }
+
+    private static <T extends AccessibleObject> T accessible(T member) {
+        try {
+            member.trySetAccessible();
+        }
+        catch (SecurityException e) {
+            // fall back to regular access check on unreflect
+        }
+        return member;
+    }
+
+    /**
+     * @return <code>(component, component) -> boolean</code> equality with {@link Object#equals(Object)} semantic of boxed values
+     */
+    private static MethodHandle same(MethodHandles.Lookup lookup, Class<?> component) throws NoSuchMethodException, IllegalAccessException {
+        Class<?> kind;
+        if (component == long.class || component == float.class || component == double.class || component == boolean.class) {
+            kind = component;
+        }
+        else if (component.isPrimitive()) {
+            kind = int.class;
+        }
+        else {
+            kind = Object.class;
+        }
+        return lookup.findStatic(SimpleRecordList.class, "same", MethodType.methodType(boolean.class, kind, kind))
+                .asType(MethodType.methodType(boolean.class, component, component));
+    }
+
+    private static boolean same(int a, int b) {
+        return a == b;
+    }
+
+    private static boolean same(long a, long b) {
+        return a == b;
+    }
+
+    private static boolean same(float a, float b) {
+        return Float.floatToIntBits(a) == Float.floatToIntBits(b);
+    }
+
+    private static boolean same(double a, double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    private static boolean same(boolean a, boolean b) {
+        return a == b;
+    }
+
+    private static boolean same(Object a, Object b) {
+        return Objects.equals(a, b);
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new IllegalStateException(e);
+    }
+
+    private void increaseIfNecessary(int incomingCount) {
+        if (columns.length == 0) {
+            return;
+        }
+        if (columns[0] == null) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = Array.newInstance(types[i], incomingCount + initial);
+            }
+        }
+        else {
+            int free = Array.getLength(columns[0]) - count;
+            int totalCount = count + incomingCount;
+            if (free < incomingCount) {
+                int newSize = totalCount + additional;
+                for (int i = 0; i < columns.length; i++) {
+                    Object largeStorage = Array.newInstance(types[i], newSize);
+                    System.arraycopy(columns[i], 0, largeStorage, 0, count);
+                    columns[i] = largeStorage;
+                }
+            }
+        }
+    }
+
+    private int columnIndex(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown record component: [%s]", name));
+    }
+
+    private Object typedColumn(String name, Class<?> expected) {
+        int index = columnIndex(name);
+        if (types[index] != expected) {
+            throw new IllegalArgumentException(
+                    String.format("Record component [%s] has type [%s]", name, types[index].getName()));
+        }
+        return column(index);
+    }
+
+    private Object column(int index) {
+        Object column = columns[index];
+        return column == null ? Array.newInstance(types[index], 0) : column;
+    }
+
+    public Class<R> getType() {
+        return type;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public boolean add(R record) {
+        Objects.requireNonNull(record);
+        increaseIfNecessary(1);
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                setters[i].invokeExact(columns, count, (Object) record);
+            }
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+        count = count + 1;
+        return true;
+    }
+
+    /**
+     * Creates new record instance from column values at passed index.
+     */
+    public R get(int index) {
+        if (count < 1 || index > count -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        try {
+            return type.cast(factory.invokeExact(columns, index));
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] instanceof Object[]) {
+                Arrays.fill((Object[]) columns[i], 0, count, null);
+            }
+        }
+        count = 0;
+    }
+
+    /**
+     * Compares record components column by column, no record instances are created.
+     */
+    public int indexOf(Object o) {
+        if (!type.isInstance(o)) {
+            return -1;
+        }
+        try {
+            for (int i = 0; i < count; i++) {
+                if (matches(i, o)) {
+                    return i;
+                }
+            }
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+        return -1;
+    }
+
+    private boolean matches(int index, Object record) throws Throwable {
+        for (int c = 0; c < columns.length; c++) {
+            if (!(boolean) matchers[c].invokeExact(columns, index, record)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    /**
+     * @return record component names in declaration order.
+     */
+    public String[] componentNames() {
+        return names.clone();
+    }
+
+    /**
+     * @return internal column array of <code>int</code> record component.
+     * @throws IllegalArgumentException if component does not exist or has other type
+     */
+    public int[] intColumn(String name) {
+        return (int[]) typedColumn(name, int.class);
+    }
+
+    /**
+     * @return internal column array of <code>long</code> record component.
+     * @throws IllegalArgumentException if component does not exist or has other type
+     */
+    public long[] longColumn(String name) {
+        return (long[]) typedColumn(name, long.class);
+    }
+
+    /**
+     * @return internal column array of <code>double</code> record component.
+     * @throws IllegalArgumentException if component does not exist or has other type
+     */
+    public double[] doubleColumn(String name) {
+        return (double[]) typedColumn(name, double.class);
+    }
+
+    /**
+     * @return internal column array of any record component, array component type is record component type.
+     * @throws IllegalArgumentException if component does not exist
+     */
+    public Object column(String name) {
+        return column(columnIndex(name));
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        return new Iterator<R>() {
+
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < count;
+            }
+
+            @Override
+            public R next() {
+                if (cursor >= count) {
+                    throw new NoSuchElementException();
+                }
+                R value = get(cursor);
+                cursor = cursor + 1;
+                return value;
+            }
+        };
+    }
+
+}
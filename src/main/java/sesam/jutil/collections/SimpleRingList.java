@@ -0,0 +1,159 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Fixed capacity ring buffer with reduced {@link List} interface. <br />
+ *
+ * <p>Supported methods are the same as in {@link SimpleList}. Internal array is
+ * allocated once in constructor, as soon as list is full {@link #add(Object)}
+ * overwrites the oldest element. Index <code>0</code> always refers to the
+ * oldest element and index <code>size() - 1</code> to the newest one.</p>
+ *
+ * <p>Note that iterators work with indexes, an {@link #add(Object)} on full list
+ * during iteration shifts all elements by one position.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+@NotThreadSafe
+public class SimpleRingList<E> extends AbstractSimpleList<E> {
+
+    private final Object[] data;
+    private int head;
+    private int count;
+
+    /**
+     * @param capacity maximal amount of stored elements
+     */
+    public SimpleRingList(int capacity) {
+        super();
+        if (capacity < 1) {
+            throw new IllegalArgumentException(String.format("Invalid capacity: [%s]", capacity));
+        }
+        data = new Object[capacity];
+    }
+
+    private int position(int index) {
+        int position = head + index;
+        return position < data.length ? position : position - data.length;
+    }
+
+    /**
+     * @return maximal amount of stored elements
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * @return true if next {@link #add(Object)} overwrites the oldest element
+     */
+    public boolean isFull() {
+        return count == data.length;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Appends element, overwrites the oldest element if list is full.
+     */
+    @Override
+    public boolean add(E e) {
+        if (count < data.length) {
+            data[position(count)] = e;
+            count = count + 1;
+        }
+        else {
+            data[head] = e;
+            head = position(1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c.isEmpty()) {
+            return false;
+        }
+        for (E e : c) {
+            add(e);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(data, null);
+        head = 0;
+        count = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (count < 1 || index > count -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (E) data[position(index)];
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < count; i++) {
+            if (Objects.equals(data[position(i)], o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = count - 1; i > -1; i--) {
+            if (Objects.equals(data[position(i)], o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void copyTo(Object[] target) {
+        int first = Math.min(count, data.length - head);
+        System.arraycopy(data, head, target, 0, first);
+        System.arraycopy(data, 0, target, first, count - first);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        copyTo(result);
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        if (a.length < count) {
+            a = (T[]) Array.newInstance(a.getClass().getComponentType(), count);
+        }
+        copyTo(a);
+        if (a.length > count) {
+            a[count] = null;
+        }
+        return a;
+    }
+
+}
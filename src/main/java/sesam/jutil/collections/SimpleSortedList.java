@@ -0,0 +1,369 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Append only collection that keeps its elements sorted. <br />
+ *
+ * <p>Added elements are collected in an unsorted tail buffer of <code>tailCapacity</code>
+ * elements. Full tail is sorted and sealed into an immutable sorted run, afterwards the
+ * newest run is merged with its predecessor as long as predecessor is not larger. So the
+ * collection consists of a logarithmic amount of runs and each element takes part in a
+ * logarithmic amount of merges, insert cost is amortized O(log n).</p>
+ *
+ * <p>{@link #contains(Object)}, {@link #indexOf(Object)}, {@link #floor(Object)} and
+ * {@link #ceiling(Object)} binary search each run and scan the tail. {@link #iterator()}
+ * and {@link #range(Object, Object)} seal the tail and merge runs on the fly. {@link #compact()}
+ * merges everything into one run on demand, {@link #get(int)} compacts implicitly.
+ * Elements are compared with comparator only, equal elements keep insertion order.</p>
+ *
+ * <p>Iterators work on runs existing at creation time and do not see later added elements.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+@NotThreadSafe
+public class SimpleSortedList<E> implements Iterable<E> {
+
+    /**
+     * Default tail buffer size.
+     */
+    public static final int DEFAULT_TAIL = 128;
+
+    private static final int RUNS_ADDITIONAL = 8;
+
+    private final Comparator<? super E> comparator;
+    private final Object[] tail;
+    private int tailCount;
+    private Object[][] runs = new Object[RUNS_ADDITIONAL][];
+    private int runCount;
+    private int count;
+
+    /**
+     * Sorted by natural order of elements.
+     */
+    @SuppressWarnings("unchecked")
+    public SimpleSortedList() {
+        this((Comparator<? super E>) Comparator.naturalOrder());
+    }
+
+    public SimpleSortedList(Comparator<? super E> comparator) {
+        this(comparator, DEFAULT_TAIL);
+    }
+
+    /**
+     * @param comparator defines order
+     * @param tailCapacity amount of elements collected unsorted before they are sealed into a sorted run
+     */
+    public SimpleSortedList(Comparator<? super E> comparator, int tailCapacity) {
+        super();
+        if (tailCapacity < 1) {
+            throw new IllegalArgumentException(String.format("Invalid tail capacity: [%s]", tailCapacity));
+        }
+        this.comparator = Objects.requireNonNull(comparator);
+        this.tail = new Object[tailCapacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator.compare((E) a, (E) b);
+    }
+
+    /**
+     * @return index of first element in run that is not less than <code>e</code>
+     */
+    private int lowerBound(Object[] run, Object e) {
+        int low = 0;
+        int high = run.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(run[middle], e) < 0) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return index of first element in run that is greater than <code>e</code>
+     */
+    private int upperBound(Object[] run, Object e) {
+        int low = 0;
+        int high = run.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(run[middle], e) <= 0) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private Object[] merge(Object[] older, Object[] newer) {
+        Object[] result = new Object[older.length + newer.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < older.length && j < newer.length) {
+            result[k++] = compare(newer[j], older[i]) < 0 ? newer[j++] : older[i++];
+        }
+        System.arraycopy(older, i, result, k, older.length - i);
+        System.arraycopy(newer, j, result, k + older.length - i, newer.length - j);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void seal() {
+        if (tailCount == 0) {
+            return;
+        }
+        Object[] run = Arrays.copyOf(tail, tailCount);
+        Arrays.sort(run, (Comparator<Object>) comparator);
+        Arrays.fill(tail, 0, tailCount, null);
+        tailCount = 0;
+        if (runCount == runs.length) {
+            runs = Arrays.copyOf(runs, runCount + RUNS_ADDITIONAL);
+        }
+        runs[runCount] = run;
+        runCount = runCount + 1;
+        while (runCount > 1 && runs[runCount - 2].length <= runs[runCount - 1].length) {
+            mergeLastRuns();
+        }
+    }
+
+    private void mergeLastRuns() {
+        runs[runCount - 2] = merge(runs[runCount - 2], runs[runCount - 1]);
+        runs[runCount - 1] = null;
+        runCount = runCount - 1;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return amount of sorted runs, tail is not counted
+     */
+    public int runCount() {
+        return runCount;
+    }
+
+    public boolean add(E e) {
+        Objects.requireNonNull(e);
+        tail[tailCount] = e;
+        tailCount = tailCount + 1;
+        count = count + 1;
+        if (tailCount == tail.length) {
+            seal();
+        }
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends E> c) {
+        for (E e : c) {
+            add(e);
+        }
+        return !c.isEmpty();
+    }
+
+    public void clear() {
+        Arrays.fill(tail, 0, tailCount, null);
+        tailCount = 0;
+        runs = new Object[RUNS_ADDITIONAL][];
+        runCount = 0;
+        count = 0;
+    }
+
+    /**
+     * Merges tail and all runs into one run.
+     */
+    public void compact() {
+        seal();
+        while (runCount > 1) {
+            mergeLastRuns();
+        }
+    }
+
+    /**
+     * @return element at <code>index</code> in sorted order, compacts the list
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (count < 1 || index > count -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        compact();
+        return (E) runs[0][index];
+    }
+
+    public boolean contains(E e) {
+        for (int r = 0; r < runCount; r++) {
+            Object[] run = runs[r];
+            int index = lowerBound(run, e);
+            if (index < run.length && compare(run[index], e) == 0) {
+                return true;
+            }
+        }
+        for (int i = 0; i < tailCount; i++) {
+            if (compare(tail[i], e) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return index of the first element equal to <code>e</code> in sorted order, or -1
+     */
+    public int indexOf(E e) {
+        boolean found = false;
+        int index = 0;
+        for (int r = 0; r < runCount; r++) {
+            Object[] run = runs[r];
+            int lower = lowerBound(run, e);
+            found = found || lower < run.length && compare(run[lower], e) == 0;
+            index = index + lower;
+        }
+        for (int i = 0; i < tailCount; i++) {
+            int compared = compare(tail[i], e);
+            found = found || compared == 0;
+            index = compared < 0 ? index + 1 : index;
+        }
+        return found ? index : -1;
+    }
+
+    /**
+     * @return the greatest element less than or equal to <code>e</code>, last one of equal elements, or <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public E floor(E e) {
+        Object result = null;
+        for (int r = 0; r < runCount; r++) {
+            int index = upperBound(runs[r], e) - 1;
+            if (index > -1 && (result == null || compare(runs[r][index], result) >= 0)) {
+                result = runs[r][index];
+            }
+        }
+        for (int i = 0; i < tailCount; i++) {
+            if (compare(tail[i], e) <= 0 && (result == null || compare(tail[i], result) >= 0)) {
+                result = tail[i];
+            }
+        }
+        return (E) result;
+    }
+
+    /**
+     * @return the least element greater than or equal to <code>e</code>, first one of equal elements, or <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public E ceiling(E e) {
+        Object result = null;
+        for (int r = 0; r < runCount; r++) {
+            int index = lowerBound(runs[r], e);
+            if (index < runs[r].length && (result == null || compare(runs[r][index], result) < 0)) {
+                result = runs[r][index];
+            }
+        }
+        for (int i = 0; i < tailCount; i++) {
+            if (compare(tail[i], e) >= 0 && (result == null || compare(tail[i], result) < 0)) {
+                result = tail[i];
+            }
+        }
+        return (E) result;
+    }
+
+    /**
+     * @return all elements in sorted order
+     */
+    @Override
+    public Iterator<E> iterator() {
+        seal();
+        int[] positions = new int[runCount];
+        int[] ends = new int[runCount];
+        for (int r = 0; r < runCount; r++) {
+            ends[r] = runs[r].length;
+        }
+        return new RunIterator(positions, ends);
+    }
+
+    /**
+     * @return elements in range <code>[from, to)</code> in sorted order
+     */
+    public Iterator<E> range(E from, E to) {
+        if (compare(from, to) > 0) {
+            throw new IllegalArgumentException(String.format("Invalid range: [%s, %s)", from, to));
+        }
+        seal();
+        int[] positions = new int[runCount];
+        int[] ends = new int[runCount];
+        for (int r = 0; r < runCount; r++) {
+            positions[r] = lowerBound(runs[r], from);
+            ends[r] = lowerBound(runs[r], to);
+        }
+        return new RunIterator(positions, ends);
+    }
+
+    /**
+     * Merges runs on the fly, equal elements are taken from older runs first.
+     */
+    private final class RunIterator implements Iterator<E> {
+
+        private final Object[][] snapshot;
+        private final int[] positions;
+        private final int[] ends;
+
+        private RunIterator(int[] positions, int[] ends) {
+            this.snapshot = Arrays.copyOf(runs, positions.length);
+            this.positions = positions;
+            this.ends = ends;
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (int r = 0; r < positions.length; r++) {
+                if (positions[r] < ends[r]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            int next = -1;
+            for (int r = 0; r < positions.length; r++) {
+                if (positions[r] < ends[r] && (next == -1 || compare(snapshot[r][positions[r]], snapshot[next][positions[next]]) < 0)) {
+                    next = r;
+                }
+            }
+            if (next == -1) {
+                throw new NoSuchElementException();
+            }
+            Object value = snapshot[next][positions[next]];
+            positions[next] = positions[next] + 1;
+            return (E) value;
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Objects;
+
+/**
+ * Bounded lock free single producer / single consumer queue. <br />
+ *
+ * <p>{@link #offer(Object)} must be called from one producer thread,
+ * {@link #poll()} and {@link #drainTo(SimpleList, int)} from one consumer thread.
+ * Producer and consumer sequence counters are padded against false sharing,
+ * the producer caches last seen consumer sequence and reads the shared one only
+ * when the cached value reports a full queue.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+public class SimpleSpscQueue<E> extends AbstractSimpleQueue<E> {
+
+    private long consumerIndexCache;
+
+    /**
+     * @param capacity maximal amount of queued elements, rounded up to the next power of two
+     */
+    public SimpleSpscQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Producer thread only.
+     */
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long index = (long) PRODUCER_INDEX.get(this);
+        if (index - consumerIndexCache >= buffer.length) {
+            consumerIndexCache = (long) CONSUMER_INDEX.getAcquire(this);
+            if (index - consumerIndexCache >= buffer.length) {
+                return false;
+            }
+        }
+        ELEMENTS.setRelease(buffer, offset(index), e);
+        PRODUCER_INDEX.setRelease(this, index + 1);
+        return true;
+    }
+
+}
@@ -0,0 +1,352 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Append only list of strings stored as UTF-8 bytes in one byte array. <br />
+ *
+ * <p>Every added {@link CharSequence} is encoded into shared byte arena, list keeps
+ * only start offsets. {@link String} instances are created on {@link #get(int)} call,
+ * comparison methods {@link #equals(int, CharSequence)}, {@link #startsWith(int, CharSequence)},
+ * {@link #indexOf(CharSequence)} and their byte slice variants decode or compare
+ * arena bytes in place and never allocate.</p>
+ *
+ * <p>Unpaired surrogate characters are stored as <code>'?'</code> like
+ * {@link String#getBytes(java.nio.charset.Charset)} does.</p>
+ *
+ * <p><b>Internal array initialization:</b></p>
+ * <p>Offsets array grows with {@link SimpleList} rules. Byte arena grows with the
+ * same rules where one element is counted as {@link #AVERAGE_BYTES} bytes.</p>
+ *
+ * @author Sergej Samsonow
+ */
+@NotThreadSafe
+public class SimpleStringList implements Iterable<String> {
+
+    /**
+     * Expected average UTF-8 length of one element, used to size byte arena.
+     */
+    public static final int AVERAGE_BYTES = 16;
+
+    private byte[] arena;
+    private int[] offsets;
+    private int count;
+    private int initial     = SimpleList.DEFAULT_INITIAL;
+    private int additional  = SimpleList.DEFAULT_ADDITIONAL;
+
+    /**
+     * Default constructor.
+     */
+    public SimpleStringList() {
+        super();
+    }
+
+    /**
+     * Default constructor with customized internal array initialization.
+     *
+     * @param initial amount of elements that will be added to size of internal arrays on initial initialization step.
+     * @param additional amount of elements that will be added to size of internal arrays on resize array step.
+     */
+    public SimpleStringList(int initial, int additional) {
+        this();
+        if (initial < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (additional < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.initial = initial;
+        this.additional = additional;
+    }
+
+    private void increaseIfNecessary(int incomingCount, int incomingBytes) {
+        if (offsets == null) {
+            offsets = new int[incomingCount + initial + 1];
+            arena = new byte[incomingBytes + initial * AVERAGE_BYTES];
+            return;
+        }
+        if (offsets.length - count - 1 < incomingCount) {
+            offsets = Arrays.copyOf(offsets, count + 1 + incomingCount + additional);
+        }
+        int used = offsets[count];
+        if (arena.length - used < incomingBytes) {
+            arena = Arrays.copyOf(arena, Math.addExact(used, incomingBytes + additional * AVERAGE_BYTES));
+        }
+    }
+
+    private static int encodedLength(CharSequence s) {
+        int length = 0;
+        int n = s.length();
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length = length + 1;
+            }
+            else if (c < 0x800) {
+                length = length + 2;
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length = length + 4;
+                i++;
+            }
+            else if (Character.isSurrogate(c)) {
+                length = length + 1;
+            }
+            else {
+                length = length + 3;
+            }
+        }
+        return length;
+    }
+
+    private static int encode(CharSequence s, byte[] target, int position) {
+        int n = s.length();
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                target[position++] = (byte) c;
+            }
+            else if (c < 0x800) {
+                target[position++] = (byte) (0xC0 | c >> 6);
+                target[position++] = (byte) (0x80 | c & 0x3F);
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                target[position++] = (byte) (0xF0 | cp >> 18);
+                target[position++] = (byte) (0x80 | cp >> 12 & 0x3F);
+                target[position++] = (byte) (0x80 | cp >> 6 & 0x3F);
+                target[position++] = (byte) (0x80 | cp & 0x3F);
+            }
+            else if (Character.isSurrogate(c)) {
+                target[position++] = '?';
+            }
+            else {
+                target[position++] = (byte) (0xE0 | c >> 12);
+                target[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                target[position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Compares UTF-8 bytes in range <code>[from, to)</code> with passed characters.
+     */
+    private boolean matches(int from, int to, CharSequence s, boolean prefix) {
+        int p = from;
+        int n = s.length();
+        int i = 0;
+        while (i < n) {
+            if (p >= to) {
+                return false;
+            }
+            int b = arena[p] & 0xFF;
+            if (b < 0x80) {
+                if (s.charAt(i) != b) {
+                    return false;
+                }
+                p = p + 1;
+                i = i + 1;
+            }
+            else if (b < 0xE0) {
+                char c = (char) ((b & 0x1F) << 6 | arena[p + 1] & 0x3F);
+                if (s.charAt(i) != c) {
+                    return false;
+                }
+                p = p + 2;
+                i = i + 1;
+            }
+            else if (b < 0xF0) {
+                char c = (char) ((b & 0x0F) << 12 | (arena[p + 1] & 0x3F) << 6 | arena[p + 2] & 0x3F);
+                if (s.charAt(i) != c) {
+                    return false;
+                }
+                p = p + 3;
+                i = i + 1;
+            }
+            else {
+                int cp = (b & 0x07) << 18 | (arena[p + 1] & 0x3F) << 12 | (arena[p + 2] & 0x3F) << 6 | arena[p + 3] & 0x3F;
+                if (s.charAt(i) != Character.highSurrogate(cp)) {
+                    return false;
+                }
+                if (i + 1 == n) {
+                    return prefix;
+                }
+                if (s.charAt(i + 1) != Character.lowSurrogate(cp)) {
+                    return false;
+                }
+                p = p + 4;
+                i = i + 2;
+            }
+        }
+        return prefix || p == to;
+    }
+
+    private void checkIndex(int index) {
+        if (count < 1 || index > count -1 || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Encodes characters into byte arena.
+     *
+     * @throws NullPointerException if passed value is null
+     */
+    public boolean add(CharSequence value) {
+        int length = encodedLength(value);
+        increaseIfNecessary(1, length);
+        offsets[count + 1] = encode(value, arena, offsets[count]);
+        count = count + 1;
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends CharSequence> c) {
+        if (c.isEmpty()) {
+            return false;
+        }
+        for (CharSequence value : c) {
+            add(value);
+        }
+        return true;
+    }
+
+    /**
+     * Creates new {@link String} from stored bytes.
+     */
+    public String get(int index) {
+        checkIndex(index);
+        return new String(arena, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return UTF-8 length of element
+     */
+    public int byteLength(int index) {
+        checkIndex(index);
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * @return amount of used arena bytes
+     */
+    public int byteSize() {
+        return count == 0 ? 0 : offsets[count];
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Compares element with passed characters without creating {@link String}.
+     */
+    public boolean equals(int index, CharSequence value) {
+        checkIndex(index);
+        return matches(offsets[index], offsets[index + 1], value, false);
+    }
+
+    /**
+     * Compares element with UTF-8 bytes in range <code>[from, to)</code> of passed array.
+     */
+    public boolean equals(int index, byte[] bytes, int from, int to) {
+        checkIndex(index);
+        Objects.checkFromToIndex(from, to, bytes.length);
+        return Arrays.equals(arena, offsets[index], offsets[index + 1], bytes, from, to);
+    }
+
+    /**
+     * Checks element prefix without creating {@link String}.
+     */
+    public boolean startsWith(int index, CharSequence prefix) {
+        checkIndex(index);
+        return matches(offsets[index], offsets[index + 1], prefix, true);
+    }
+
+    /**
+     * Checks element prefix against UTF-8 bytes in range <code>[from, to)</code> of passed array.
+     */
+    public boolean startsWith(int index, byte[] bytes, int from, int to) {
+        checkIndex(index);
+        Objects.checkFromToIndex(from, to, bytes.length);
+        int start = offsets[index];
+        int length = to - from;
+        return length <= offsets[index + 1] - start && Arrays.equals(arena, start, start + length, bytes, from, to);
+    }
+
+    /**
+     * Only elements with the same UTF-8 length are compared character by character.
+     */
+    public int indexOf(CharSequence value) {
+        int length = encodedLength(value);
+        for (int i = 0; i < count; i++) {
+            int from = offsets[i];
+            int to = offsets[i + 1];
+            if (to - from == length && matches(from, to, value, false)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return index of the first element equal to UTF-8 bytes in range <code>[from, to)</code> of passed array.
+     */
+    public int indexOf(byte[] bytes, int from, int to) {
+        Objects.checkFromToIndex(from, to, bytes.length);
+        int length = to - from;
+        for (int i = 0; i < count; i++) {
+            int start = offsets[i];
+            int end = offsets[i + 1];
+            if (end - start == length && Arrays.equals(arena, start, end, bytes, from, to)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(CharSequence value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < count;
+            }
+
+            @Override
+            public String next() {
+                if (cursor >= count) {
+                    throw new NoSuchElementException();
+                }
+                String value = get(cursor);
+                cursor = cursor + 1;
+                return value;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,192 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Keeps the <code>k</code> largest elements by {@link Comparator} in a bounded binary min heap. <br />
+ *
+ * <p>Adding costs <code>O(1)</code> for elements not larger than current threshold and
+ * <code>O(log k)</code> otherwise, memory is fixed to <code>k</code> slots. Elements
+ * equal to threshold of a full heap are rejected, so earlier elements win ties.</p>
+ *
+ * <p><b>Feeding:</b></p>
+ * <p>Elements are added directly with {@link #add(Object)} or taken from an append only
+ * {@link SimpleList} after {@link #attach(SimpleList)}: every {@link #update()} consumes
+ * elements appended since previous update.</p>
+ *
+ * @author Sergej Samsonow
+ *
+ * @param <E>
+ */
+@NotThreadSafe
+public class SimpleTopK<E> {
+
+    private final Object[] heap;
+    private final Comparator<? super E> comparator;
+    private int size;
+    private SimpleList<? extends E> source;
+    private int position;
+
+    /**
+     * @param k maximum amount of kept elements
+     */
+    public SimpleTopK(int k, Comparator<? super E> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException(String.format("Invalid k: [%s]", k));
+        }
+        this.heap = new Object[k];
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * @return <code>true</code> if element is kept
+     */
+    public boolean add(E e) {
+        if (size < heap.length) {
+            heap[size] = e;
+            siftUp(size);
+            size = size + 1;
+            return true;
+        }
+        if (comparator.compare(e, element(0)) <= 0) {
+            return false;
+        }
+        heap[0] = e;
+        siftDown(0);
+        return true;
+    }
+
+    public void addAll(SimpleList<? extends E> list) {
+        addAll(list, 0, list.size());
+    }
+
+    private void addAll(SimpleList<? extends E> list, int from, int to) {
+        Object[] data = list.array();
+        for (int i = from; i < to; i++) {
+            @SuppressWarnings("unchecked")
+            E e = (E) data[i];
+            add(e);
+        }
+    }
+
+    /**
+     * Attaches append only list, elements are consumed on {@link #update()} starting at first element.
+     *
+     * @return this instance
+     */
+    public SimpleTopK<E> attach(SimpleList<? extends E> list) {
+        source = Objects.requireNonNull(list);
+        position = 0;
+        return this;
+    }
+
+    /**
+     * Consumes elements appended to attached list since previous update.
+     *
+     * @return amount of consumed elements
+     * @throws IllegalStateException if no list is attached or attached list was cleared
+     */
+    public int update() {
+        if (source == null) {
+            throw new IllegalStateException("No list attached");
+        }
+        int end = source.size();
+        if (end < position) {
+            throw new IllegalStateException(String.format("Invalid attached list size: [%s]", end));
+        }
+        addAll(source, position, end);
+        int consumed = end - position;
+        position = end;
+        return consumed;
+    }
+
+    /**
+     * @return amount of kept elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return smallest kept element
+     * @throws NoSuchElementException if no element is kept
+     */
+    public E threshold() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return element(0);
+    }
+
+    /**
+     * @return kept elements from largest to smallest in exactly sized list
+     */
+    public SimpleList<E> toList() {
+        Object[] sorted = new Object[size];
+        System.arraycopy(heap, 0, sorted, 0, size);
+        @SuppressWarnings("unchecked")
+        Comparator<Object> descending = (Comparator<Object>) comparator.reversed();
+        Arrays.sort(sorted, descending);
+        SimpleList<E> result = new SimpleList<>();
+        result.reserve(size);
+        @SuppressWarnings("unchecked")
+        E[] elements = (E[]) sorted;
+        result.addAll(elements);
+        return result;
+    }
+
+    /**
+     * Removes kept elements, attached list stays attached at current position.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E element(int index) {
+        return (E) heap[index];
+    }
+
+    private void siftUp(int index) {
+        E e = element(index);
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (comparator.compare(e, element(parent)) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = e;
+    }
+
+    private void siftDown(int index) {
+        E e = element(index);
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && comparator.compare(element(child + 1), element(child)) < 0) {
+                child = child + 1;
+            }
+            if (comparator.compare(element(child), e) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = e;
+    }
+
+}
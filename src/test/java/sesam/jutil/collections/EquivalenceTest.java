@@ -0,0 +1,88 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EquivalenceTest {
+
+    private record Person(String name, int age) {
+    }
+
+    private static SimpleList<Person> people(Person... elements) {
+        SimpleList<Person> list = new SimpleList<>();
+        list.addAll(elements);
+        return list;
+    }
+
+    @Test
+    @DisplayName("Identity search compares references only")
+    public void testIdentity() {
+        Person a = new Person("A", 1);
+        Person copy = new Person("A", 1);
+        SimpleList<Person> list = people(a, copy, a, null);
+        assertThat(list.indexOf(copy)).isEqualTo(0);
+        assertThat(list.indexOf(copy, Equivalence.identity())).isEqualTo(1);
+        assertThat(list.indexOf(a, Equivalence.identity())).isEqualTo(0);
+        assertThat(list.lastIndexOf(a, Equivalence.identity())).isEqualTo(2);
+        assertThat(list.indexOf(null, Equivalence.identity())).isEqualTo(3);
+        assertThat(list.contains(new Person("A", 1), Equivalence.identity())).isFalse();
+        assertThat(Equivalence.identity().equivalent(a, copy)).isFalse();
+        assertThat(Equivalence.<Person>identity()).isSameAs(Equivalence.identity());
+    }
+
+    @Test
+    @DisplayName("Equality search matches default search")
+    public void testEquality() {
+        SimpleList<Person> list = people(new Person("A", 1), null, new Person("B", 2), null);
+        Equivalence<Person> equality = Equivalence.equality();
+        assertThat(list.indexOf(new Person("B", 2), equality)).isEqualTo(list.indexOf(new Person("B", 2)));
+        assertThat(list.indexOf(null, equality)).isEqualTo(1);
+        assertThat(list.lastIndexOf(null, equality)).isEqualTo(3);
+        assertThat(list.contains(new Person("C", 3), equality)).isFalse();
+        assertThat(new SimpleList<Person>().indexOf(null, equality)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Key extractor compares one field, probe key is extracted once")
+    public void testComparing() {
+        AtomicInteger extractions = new AtomicInteger();
+        Equivalence<Person> byName = Equivalence.comparing(person -> {
+            extractions.incrementAndGet();
+            return person.name();
+        });
+        SimpleList<Person> list = people(new Person("A", 1), new Person("B", 2), new Person("A", 3));
+        assertThat(list.indexOf(new Person("A", 99), byName)).isEqualTo(0);
+        assertThat(extractions.get()).isEqualTo(2);
+        assertThat(list.lastIndexOf(new Person("A", 99), byName)).isEqualTo(2);
+        assertThat(list.contains(new Person("C", 1), byName)).isFalse();
+        assertThat(byName.equivalent(new Person("B", 1), new Person("B", 2))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Hash prefilter skips full comparison for other hash codes")
+    public void testHashed() {
+        AtomicInteger comparisons = new AtomicInteger();
+        Equivalence<Person> full = (a, b) -> {
+            comparisons.incrementAndGet();
+            return a.equals(b);
+        };
+        Equivalence<Person> hashed = Equivalence.hashed(full, Person::age);
+        SimpleList<Person> list = people(new Person("A", 1), new Person("B", 2), new Person("C", 2), new Person("D", 3));
+        assertThat(list.indexOf(new Person("C", 2), hashed)).isEqualTo(2);
+        assertThat(comparisons.get()).isEqualTo(2);
+        assertThat(list.lastIndexOf(new Person("B", 2), hashed)).isEqualTo(1);
+        assertThat(list.contains(new Person("E", 4), hashed)).isFalse();
+        assertThat(comparisons.get()).isEqualTo(4);
+        assertThat(hashed.equivalent(new Person("A", 1), new Person("A", 1))).isTrue();
+        assertThat(hashed.equivalent(new Person("A", 1), new Person("A", 2))).isFalse();
+    }
+
+}
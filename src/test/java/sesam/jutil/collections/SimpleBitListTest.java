@@ -0,0 +1,135 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleBitListTest {
+
+    private static SimpleBitList random(Random random, int size, BitSet expected) {
+        SimpleBitList list = new SimpleBitList(1, 1);
+        for (int i = 0; i < size; i++) {
+            boolean value = random.nextInt(3) == 0;
+            list.add(value);
+            expected.set(i, value);
+        }
+        return list;
+    }
+
+    private static BitSet toBitSet(SimpleBitList list) {
+        BitSet result = new BitSet();
+        list.forEachSetBit(result::set);
+        return result;
+    }
+
+    @Test
+    @DisplayName("Empty list")
+    public void testEmptyList() {
+        SimpleBitList list = new SimpleBitList();
+        assertThat(list.size()).isEqualTo(0);
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.addAll()).isFalse();
+        assertThat(list.cardinality()).isEqualTo(0);
+        assertThat(list.nextSetBit(0)).isEqualTo(-1);
+        assertThat(list.setBits().hasNext()).isFalse();
+        assertThat(list.toLongArray()).isEmpty();
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.nextSetBit(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> new SimpleBitList(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleBitList(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 63, 64, 65, 1000 })
+    @DisplayName("Values, cardinality and set bit iteration")
+    public void testValues(int size) {
+        BitSet expected = new BitSet();
+        SimpleBitList list = random(new Random(size), size, expected);
+        assertThat(list.size()).isEqualTo(size);
+        for (int i = 0; i < size; i++) {
+            assertThat(list.get(i)).isEqualTo(expected.get(i));
+        }
+        assertThatThrownBy(() -> list.get(size)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(list.cardinality()).isEqualTo(expected.cardinality());
+        assertThat(toBitSet(list)).isEqualTo(expected);
+        for (int i = 0; i < size; i++) {
+            assertThat(list.nextSetBit(i)).isEqualTo(expected.nextSetBit(i));
+        }
+        assertThat(list.nextSetBit(size)).isEqualTo(-1);
+        List<Integer> iterated = new ArrayList<>();
+        PrimitiveIterator.OfInt iterator = list.setBits();
+        iterator.forEachRemaining((int index) -> iterated.add(index));
+        assertThat(iterated).containsExactlyElementsOf(expected.stream().boxed().toList());
+        assertThatThrownBy(iterator::nextInt).isInstanceOf(NoSuchElementException.class);
+        assertThat(BitSet.valueOf(list.toLongArray())).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 10, 64, 100, 200, 300 })
+    @DisplayName("Bulk operations against list of other size")
+    public void testBulkOperations(int otherSize) {
+        Random random = new Random(otherSize);
+        BitSet expected = new BitSet();
+        BitSet other = new BitSet();
+        SimpleBitList otherList = random(random, otherSize, other);
+
+        SimpleBitList list = random(random, 200, expected);
+        BitSet and = (BitSet) expected.clone();
+        and.and(other);
+        list.and(otherList);
+        assertThat(toBitSet(list)).isEqualTo(and);
+        assertThat(list.size()).isEqualTo(200);
+
+        list = random(random, 200, expected = new BitSet());
+        BitSet or = (BitSet) expected.clone();
+        or.or(other.get(0, 200));
+        list.or(otherList);
+        assertThat(toBitSet(list)).isEqualTo(or);
+        assertThat(list.cardinality()).isEqualTo(or.cardinality());
+
+        list = random(random, 200, expected = new BitSet());
+        BitSet andNot = (BitSet) expected.clone();
+        andNot.andNot(other);
+        list.andNot(otherList);
+        assertThat(toBitSet(list)).isEqualTo(andNot);
+    }
+
+    @Test
+    @DisplayName("Clear resets values")
+    public void testClear() {
+        SimpleBitList list = new SimpleBitList();
+        list.addAll(true, true, true);
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+        list.addAll(false, false);
+        assertThat(list.cardinality()).isEqualTo(0);
+        assertThat(list.get(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Hundred million flags take about twelve megabytes")
+    public void testFootprint() {
+        SimpleBitList list = new SimpleBitList(100_000_000, 1);
+        for (int i = 0; i < 100_000_000; i++) {
+            list.add(i % 1000 == 0);
+        }
+        assertThat(list.cardinality()).isEqualTo(100_000);
+        assertThat(list.toLongArray().length).isEqualTo(1_562_500);
+    }
+
+}
@@ -0,0 +1,109 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class SimpleCompressedLongListTest {
+
+    public static Stream<Arguments> testRoundTripValues() {
+        Random random = new Random(42);
+        long[] timestamps = new long[10_000];
+        long[] randoms = new long[1_000];
+        long[] extremes = new long[1_000];
+        long[] constant = new long[300];
+        long[] ints = new long[5_000];
+        timestamps[0] = 1_600_000_000_000L;
+        for (int i = 1; i < timestamps.length; i++) {
+            timestamps[i] = timestamps[i - 1] + random.nextInt(50);
+        }
+        for (int i = 0; i < randoms.length; i++) {
+            randoms[i] = random.nextLong();
+        }
+        for (int i = 0; i < extremes.length; i++) {
+            extremes[i] = i % 3 == 0 ? Long.MIN_VALUE : i % 3 == 1 ? Long.MAX_VALUE : -i;
+        }
+        for (int i = 0; i < constant.length; i++) {
+            constant[i] = -7;
+        }
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt(1000) - 500;
+        }
+        return Stream.of(
+                Arguments.of("timestamps", timestamps),
+                Arguments.of("random", randoms),
+                Arguments.of("extremes", extremes),
+                Arguments.of("constant", constant),
+                Arguments.of("ints", ints));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("testRoundTripValues")
+    @DisplayName("Values are decoded unchanged")
+    public void testRoundTrip(String name, long[] values) {
+        SimpleCompressedLongList list = new SimpleCompressedLongList();
+        assertThat(list.addAll(values)).isTrue();
+        assertThat(list.size()).isEqualTo(values.length);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(list.get(i)).isEqualTo(values[i]);
+        }
+        assertThat(list.toArray()).isEqualTo(values);
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        for (int i = 0; i < values.length; i++) {
+            assertThat(iterator.nextLong()).isEqualTo(values[i]);
+        }
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::nextLong).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Timestamps are compressed")
+    public void testCompression() {
+        SimpleCompressedLongList list = new SimpleCompressedLongList();
+        long value = 1_600_000_000_000L;
+        for (int i = 0; i < 1_000_000; i++) {
+            value = value + (i % 17);
+            list.add(value);
+        }
+        assertThat(list.sizeInBytes()).isLessThan(1_000_000L * Long.BYTES / 8);
+        assertThat(list.get(999_999)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("Empty list, invalid index and clear")
+    public void testEmptyAndClear() {
+        SimpleCompressedLongList list = new SimpleCompressedLongList();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.addAll()).isFalse();
+        assertThat(list.toArray()).isEmpty();
+        assertThat(list.sizeInBytes()).isEqualTo(0);
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        assertThatThrownBy(() -> list.get(1000)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+        for (int i = 0; i < 300; i++) {
+            list.add(-i);
+        }
+        assertThat(list.get(299)).isEqualTo(-299L);
+        assertThat(list.get(128)).isEqualTo(-128L);
+    }
+
+}
@@ -0,0 +1,96 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleDictionaryListTest {
+
+    @Test
+    @DisplayName("Empty list")
+    public void testEmptyList() {
+        SimpleDictionaryList<String> list = new SimpleDictionaryList<>();
+        assertThat(list.size()).isEqualTo(0);
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.codeWidth()).isEqualTo(1);
+        assertThat(list.addAll(Collections.emptyList())).isFalse();
+        assertThat(list.indexOf("A")).isEqualTo(-1);
+        assertThat(list.toArray()).isEmpty();
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.set(0, "A")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Repeated values are stored once")
+    public void testRepeatedValues() {
+        SimpleDictionaryList<String> list = new SimpleDictionaryList<>(1, 1);
+        list.addAll(List.of("OK", "FAIL", "OK", "OK"));
+        list.add(null);
+        assertThat(list.size()).isEqualTo(5);
+        assertThat(list.dictionarySize()).isEqualTo(3);
+        assertThat(list.toArray()).containsExactly("OK", "FAIL", "OK", "OK", null);
+        assertThat(list.toArray(new String[0])).containsExactly("OK", "FAIL", "OK", "OK", null);
+        assertThat(list.toArray(new String[7])).containsExactly("OK", "FAIL", "OK", "OK", null, null, null);
+        assertThat(list.indexOf("OK")).isEqualTo(0);
+        assertThat(list.lastIndexOf("OK")).isEqualTo(3);
+        assertThat(list.indexOf(null)).isEqualTo(4);
+        assertThat(list.contains("UNKNOWN")).isFalse();
+        assertThat(list.lastIndexOf("UNKNOWN")).isEqualTo(-1);
+        List<String> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertThat(iterated).containsExactly("OK", "FAIL", "OK", "OK", null);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 255, 256, 257, 65535, 65536, 70000 })
+    @DisplayName("Codes are widened automatically")
+    public void testWidening(int distinct) {
+        SimpleDictionaryList<Integer> list = new SimpleDictionaryList<>();
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < distinct; i++) {
+                list.add(i);
+            }
+        }
+        int expectedWidth = distinct <= 256 ? 1 : distinct <= 65536 ? 2 : 4;
+        assertThat(list.codeWidth()).isEqualTo(expectedWidth);
+        assertThat(list.dictionarySize()).isEqualTo(distinct);
+        assertThat(list.size()).isEqualTo(distinct * 2);
+        for (int i = 0; i < distinct; i += 97) {
+            assertThat(list.get(i)).isEqualTo(i);
+            assertThat(list.get(distinct + i)).isEqualTo(i);
+            assertThat(list.indexOf(i)).isEqualTo(i);
+            assertThat(list.lastIndexOf(i)).isEqualTo(distinct + i);
+        }
+        assertThat(list.indexOf(distinct - 1)).isEqualTo(distinct - 1);
+    }
+
+    @Test
+    @DisplayName("Clear drops dictionary")
+    public void testClear() {
+        SimpleDictionaryList<Integer> list = new SimpleDictionaryList<>();
+        for (int i = 0; i < 300; i++) {
+            list.add(i);
+        }
+        assertThat(list.codeWidth()).isEqualTo(2);
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.dictionarySize()).isEqualTo(0);
+        assertThat(list.codeWidth()).isEqualTo(1);
+        assertThat(list.contains(1)).isFalse();
+        list.add(5);
+        assertThat(list.get(0)).isEqualTo(5);
+    }
+
+}
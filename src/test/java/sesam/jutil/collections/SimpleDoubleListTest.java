@@ -0,0 +1,179 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleDoubleListTest {
+
+    private SimpleDoubleList sequence(int size) {
+        SimpleDoubleList list = new SimpleDoubleList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("Empty list get/size/isEmpty/toArray")
+    public void testEmptyList() {
+        SimpleDoubleList list = new SimpleDoubleList();
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(list.size()).isEqualTo(0);
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("One thousand entries add/get/size")
+    public void testOneThousandEntries() {
+        SimpleDoubleList list = new SimpleDoubleList(2, 5);
+        for (int i = 1; i <= 1000; i++) {
+            assertThat(list.add(i)).isTrue();
+            assertThat(list.get(i - 1)).isEqualTo(i);
+            assertThat(list.size()).isEqualTo(i);
+        }
+        assertThat(list.addAll(1001, 1002)).isTrue();
+        assertThat(list.addAll()).isFalse();
+        assertThat(list.get(1001)).isEqualTo(1002);
+        assertThat(list.toArray()).hasSize(1002);
+    }
+
+    @Test
+    @DisplayName("Search and clear")
+    public void testSearchAndClear() {
+        SimpleDoubleList list = new SimpleDoubleList();
+        list.addAll(1.5, Double.NaN, 1.5, -0.0);
+        assertThat(list.indexOf(1.5)).isEqualTo(0);
+        assertThat(list.lastIndexOf(1.5)).isEqualTo(2);
+        assertThat(list.indexOf(Double.NaN)).isEqualTo(1);
+        assertThat(list.indexOf(0.0)).isEqualTo(-1);
+        assertThat(list.contains(-0.0)).isTrue();
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.contains(1.5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Exact selection in sort order of Arrays.sort")
+    public void testSelect() {
+        SimpleDoubleList list = new SimpleDoubleList();
+        Random random = new Random(5);
+        for (int i = 0; i < 5_000; i++) {
+            list.add(random.nextInt(100) / 4.0);
+        }
+        list.addAll(Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY);
+        double[] original = list.toArray();
+        double[] sorted = list.toArray();
+        Arrays.sort(sorted);
+        for (int k : new int[] { 0, 1, 2, 2_500, 5_002, 5_003 }) {
+            assertThat(Double.doubleToLongBits(list.select(k))).isEqualTo(Double.doubleToLongBits(sorted[k]));
+        }
+        int[] ks = { 5_003, 0, 2_500, 1, 2_500, 5_002, 2 };
+        double[] selected = list.select(ks);
+        for (int i = 0; i < ks.length; i++) {
+            assertThat(Double.doubleToLongBits(selected[i])).isEqualTo(Double.doubleToLongBits(sorted[ks[i]]));
+        }
+        assertThat(list.toArray()).isEqualTo(original);
+        assertThatThrownBy(() -> list.select(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { Integer.MIN_VALUE, -1, 0 })
+    @DisplayName("Invalid initialisation values")
+    public void testInvalidConstructorValues(int value) {
+        assertThatThrownBy(() -> new SimpleDoubleList(10, value)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleDoubleList(value, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleDoubleList().setParallelThreshold(value)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("Aggregations")
+    public class Aggregations {
+
+        @Test
+        @DisplayName("Whole list aggregations")
+        public void testWholeList() {
+            SimpleDoubleList list = sequence(101);
+            assertThat(list.sum()).isEqualTo(5050.0);
+            assertThat(list.min()).isEqualTo(0.0);
+            assertThat(list.max()).isEqualTo(100.0);
+            assertThat(list.mean()).isEqualTo(50.0);
+            assertThat(list.countInRange(10, 20)).isEqualTo(10);
+            assertThat(list.histogram(0, 100, 4)).containsExactly(25, 25, 25, 25);
+        }
+
+        @Test
+        @DisplayName("Range aggregations")
+        public void testRange() {
+            SimpleDoubleList list = sequence(10);
+            assertThat(list.sum(2, 5)).isEqualTo(9.0);
+            assertThat(list.min(2, 5)).isEqualTo(2.0);
+            assertThat(list.max(2, 5)).isEqualTo(4.0);
+            assertThat(list.mean(2, 5)).isEqualTo(3.0);
+            assertThat(list.countInRange(2, 5, 3, 100)).isEqualTo(2);
+            assertThat(list.histogram(0, 10, 0, 10, 2)).containsExactly(5, 5);
+            assertThat(list.sum(3, 3)).isEqualTo(0.0);
+        }
+
+        @Test
+        @DisplayName("Empty and invalid ranges")
+        public void testInvalidRange() {
+            SimpleDoubleList list = sequence(10);
+            assertThatThrownBy(() -> list.sum(-1, 5)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> list.sum(5, 11)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> list.min(5, 5)).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> new SimpleDoubleList().max()).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> new SimpleDoubleList().mean()).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> list.histogram(1, 1, 2)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> list.histogram(0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Parallel aggregations are equal to sequential aggregations")
+        public void testParallel() {
+            SimpleDoubleList list = sequence(100_003);
+            double sum = list.sum();
+            long[] histogram = list.histogram(0, 100_003, 7);
+            list.setParallelThreshold(1000);
+            assertThat(list.getParallelThreshold()).isEqualTo(1000);
+            assertThat(list.sum()).isCloseTo(sum, within(1e-6));
+            assertThat(list.min()).isEqualTo(0.0);
+            assertThat(list.max()).isEqualTo(100_002.0);
+            assertThat(list.countInRange(10, 50_010)).isEqualTo(50_000);
+            assertThat(list.histogram(0, 100_003, 7)).isEqualTo(histogram);
+            assertThat(list.min(500, 1700)).isEqualTo(500.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Channel transfer")
+    public void testChannelTransfer() throws IOException {
+        SimpleDoubleList list = new SimpleDoubleList();
+        list.addAll(1.5, Double.NaN, -0.0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        assertThat(list.writeTo(Channels.newChannel(bytes), ByteOrder.LITTLE_ENDIAN)).isEqualTo(bytes.size());
+        SimpleDoubleList result = SimpleDoubleList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ByteOrder.LITTLE_ENDIAN);
+        assertThat(result.toArray()).isEqualTo(list.toArray());
+    }
+
+}
@@ -0,0 +1,138 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class SimpleIntListTest {
+
+    private SimpleIntList sequence(int size) {
+        SimpleIntList list = new SimpleIntList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("Add/get/size/isEmpty/toArray")
+    public void testAddGet() {
+        SimpleIntList list = new SimpleIntList(1, 1);
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.addAll(new int[0])).isFalse();
+        assertThat(list.addAll(1, 2, 3)).isTrue();
+        assertThat(list.add(4)).isTrue();
+        assertThat(list.size()).isEqualTo(4);
+        assertThat(list.toArray()).containsExactly(1, 2, 3, 4);
+        assertThat(list.get(3)).isEqualTo(4);
+        assertThatThrownBy(() -> list.get(4)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Exact selection of one and several ranks keeps list order")
+    public void testSelect() {
+        SimpleIntList list = new SimpleIntList();
+        Random random = new Random(7);
+        for (int i = 0; i < 10_001; i++) {
+            list.add(random.nextInt());
+        }
+        int[] original = list.toArray();
+        int[] sorted = list.toArray();
+        Arrays.sort(sorted);
+        int[] ks = { 9_900, 0, 5_000, 10_000, 5_000, 1, 9_000 };
+        for (int k : ks) {
+            assertThat(list.select(k)).isEqualTo(sorted[k]);
+        }
+        int[] selected = list.select(ks);
+        for (int i = 0; i < ks.length; i++) {
+            assertThat(selected[i]).isEqualTo(sorted[ks[i]]);
+        }
+        assertThat(list.select(new int[0])).isEmpty();
+        assertThat(list.toArray()).isEqualTo(original);
+        assertThatThrownBy(() -> list.select(10_001)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.select(0, -1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Search and clear")
+    public void testSearchAndClear() {
+        SimpleIntList list = sequence(5);
+        list.add(2);
+        assertThat(list.indexOf(2)).isEqualTo(2);
+        assertThat(list.lastIndexOf(2)).isEqualTo(5);
+        assertThat(list.contains(5)).isFalse();
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Nested
+    @DisplayName("Aggregations")
+    public class Aggregations {
+
+        @Test
+        @DisplayName("Sum does not overflow int")
+        public void testSumOverflow() {
+            SimpleIntList list = new SimpleIntList();
+            list.addAll(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE);
+            assertThat(list.sum()).isEqualTo((long) Integer.MAX_VALUE * 2 + Integer.MIN_VALUE);
+            assertThat(list.min()).isEqualTo(Integer.MIN_VALUE);
+            assertThat(list.max()).isEqualTo(Integer.MAX_VALUE);
+            assertThat(list.histogram(Integer.MIN_VALUE, Integer.MAX_VALUE, 2)).containsExactly(1, 0);
+        }
+
+        @Test
+        @DisplayName("Whole list and range aggregations")
+        public void testAggregations() {
+            SimpleIntList list = sequence(101);
+            assertThat(list.sum()).isEqualTo(5050L);
+            assertThat(list.sum(1, 4)).isEqualTo(6L);
+            assertThat(list.mean()).isEqualTo(50.0);
+            assertThat(list.countInRange(-5, 5)).isEqualTo(5);
+            assertThat(list.countInRange(0, 50, -5, 5)).isEqualTo(5);
+            assertThat(list.histogram(0, 100, 3)).containsExactly(34, 33, 33);
+            assertThatThrownBy(() -> new SimpleIntList().mean()).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        @DisplayName("Parallel aggregations are equal to sequential aggregations")
+        public void testParallel() {
+            SimpleIntList list = sequence(100_003);
+            long sum = list.sum();
+            long[] histogram = list.histogram(0, 100_003, 13);
+            list.setParallelThreshold(100);
+            assertThat(list.sum()).isEqualTo(sum);
+            assertThat(list.min()).isEqualTo(0);
+            assertThat(list.max()).isEqualTo(100_002);
+            assertThat(list.countInRange(0, 5)).isEqualTo(5);
+            assertThat(list.histogram(0, 100_003, 13)).isEqualTo(histogram);
+        }
+    }
+
+    @Test
+    @DisplayName("Channel transfer")
+    public void testChannelTransfer() throws IOException {
+        SimpleIntList list = new SimpleIntList();
+        list.addAll(7, -8, Integer.MIN_VALUE);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        assertThat(list.writeTo(Channels.newChannel(bytes), ByteOrder.LITTLE_ENDIAN)).isEqualTo(bytes.size());
+        SimpleIntList result = SimpleIntList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ByteOrder.LITTLE_ENDIAN);
+        assertThat(result.toArray()).isEqualTo(list.toArray());
+    }
+
+}
@@ -0,0 +1,159 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.ListIterator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Allocation regression tests of {@link SimpleList} hot paths. <br />
+ *
+ * <p>Allocated bytes of the test thread are measured with
+ * {@link ThreadMXBean#getCurrentThreadAllocatedBytes()}. Every scenario runs once
+ * for warm up and is measured in a second run, hot paths that are meant to be
+ * allocation free may allocate at most {@link #SLACK} bytes in total.</p>
+ */
+public class SimpleListAllocationTest {
+
+    private static final int OPERATIONS = 100_000;
+
+    /**
+     * Tolerance for measurement noise, far below one byte per operation.
+     */
+    private static final long SLACK = 1024;
+
+    private static final Object ELEMENT = new Object();
+
+    private static ThreadMXBean threads;
+
+    /**
+     * Measured size of one <code>Object[]</code> slot, 4 bytes with compressed oops.
+     */
+    private static long slotBytes;
+
+    /**
+     * Measured <code>Object[]</code> header size including alignment padding.
+     */
+    private static long arrayHeaderBytes;
+
+    private static Object[] array;
+
+    private int sink;
+
+    @BeforeAll
+    public static void setUp() {
+        threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long single = allocated(() -> array = new Object[OPERATIONS]);
+        long twice = allocated(() -> array = new Object[2 * OPERATIONS]);
+        array = null;
+        slotBytes = (twice - single) / OPERATIONS;
+        arrayHeaderBytes = single - slotBytes * OPERATIONS + Long.BYTES;
+        assumeTrue(slotBytes == Integer.BYTES || slotBytes == Long.BYTES);
+    }
+
+    private static long allocated(Runnable scenario) {
+        scenario.run();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        scenario.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static SimpleList<Object> filled(int size) {
+        SimpleList<Object> list = new SimpleList<>();
+        list.reserve(size);
+        for (int i = 0; i < size; i++) {
+            list.add(ELEMENT);
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("Steady state add after reserve does not allocate")
+    public void testAdd() {
+        SimpleList<Object> list = new SimpleList<>();
+        list.reserve(2 * OPERATIONS);
+        long bytes = allocated(() -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.add(ELEMENT);
+            }
+        });
+        assertThat(bytes).isLessThanOrEqualTo(SLACK);
+    }
+
+    @Test
+    @DisplayName("get and indexOf do not allocate")
+    public void testGetAndIndexOf() {
+        SimpleList<Object> list = filled(OPERATIONS);
+        Object missing = new Object();
+        long bytes = allocated(() -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink = sink + (list.get(i) == ELEMENT ? 1 : 0);
+            }
+            for (int i = 0; i < 10; i++) {
+                sink = sink + list.indexOf(missing) + list.lastIndexOf(missing);
+            }
+        });
+        assertThat(bytes).isLessThanOrEqualTo(SLACK);
+    }
+
+    @Test
+    @DisplayName("Iteration allocates constant amount independent of size")
+    public void testIteration() {
+        SimpleList<Object> list = filled(OPERATIONS);
+        long bytes = allocated(() -> {
+            Iterator<Object> iterator = list.iterator();
+            while (iterator.hasNext()) {
+                sink = sink + (iterator.next() == ELEMENT ? 1 : 0);
+            }
+            ListIterator<Object> backwards = new SimpleListIterator<>(list.size(), list);
+            while (backwards.hasPrevious()) {
+                sink = sink + (backwards.previous() == ELEMENT ? 1 : 0);
+            }
+            for (Object element : list) {
+                sink = sink + (element == ELEMENT ? 1 : 0);
+            }
+            list.forEach(element -> sink = sink + (element == ELEMENT ? 1 : 0));
+        });
+        assertThat(bytes).isLessThanOrEqualTo(SLACK);
+    }
+
+    @Test
+    @DisplayName("Resize copy volume stays within growth rule bound")
+    public void testResizeVolume() {
+        int initial = 1_000;
+        int additional = 10_000;
+        long slots = 0;
+        for (int capacity = 1 + initial; ; capacity = capacity + 1 + additional) {
+            slots = slots + capacity;
+            if (capacity >= OPERATIONS) {
+                break;
+            }
+        }
+        long arrays = OPERATIONS / additional + 2;
+        long bound = slots * slotBytes + arrays * arrayHeaderBytes + SLACK;
+        long bytes = allocated(() -> {
+            SimpleList<Object> list = new SimpleList<>(initial, additional);
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.add(ELEMENT);
+            }
+        });
+        assertThat(bytes).isLessThanOrEqualTo(bound);
+        long reserved = allocated(() -> filled(OPERATIONS));
+        assertThat(reserved).isLessThanOrEqualTo(OPERATIONS * slotBytes + arrayHeaderBytes + SLACK);
+    }
+
+}
@@ -0,0 +1,165 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SimpleListBatcherTest {
+
+    private final List<List<String>> batches = new ArrayList<>();
+    private final List<SimpleList<String>> buffers = new ArrayList<>();
+
+    private void sink(SimpleList<String> batch) {
+        batches.add(List.of(batch.toArray(new String[0])));
+        buffers.add(batch);
+    }
+
+    @Test
+    @DisplayName("Invalid limits")
+    public void testInvalidLimits() {
+        assertThatThrownBy(() -> new SimpleListBatcher<String>(this::sink, 0)).isInstanceOf(IllegalArgumentException.class);
+        SimpleListBatcher<String> batcher = new SimpleListBatcher<>(this::sink, 1);
+        assertThatThrownBy(() -> batcher.setMaxBytes(0, String::length)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> batcher.setMaxDelay(-1, TimeUnit.SECONDS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Flush by count and recycle buffers")
+    public void testFlushByCount() {
+        SimpleListBatcher<String> batcher = new SimpleListBatcher<>(this::sink, 2);
+        batcher.add("A");
+        assertThat(batcher.size()).isEqualTo(1);
+        assertThat(batches).isEmpty();
+        batcher.add("B");
+        assertThat(batcher.size()).isEqualTo(0);
+        assertThat(batcher.addAll(List.of("C", "D", "E"))).isTrue();
+        assertThat(batcher.addAll(Collections.emptyList())).isFalse();
+        batcher.close();
+        assertThat(batches).containsExactly(List.of("A", "B"), List.of("C", "D"), List.of("E"));
+        assertThat(buffers.get(1)).isSameAs(buffers.get(0)).isEmpty();
+        batcher.flush();
+        assertThat(batches).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Flush by estimated bytes size")
+    public void testFlushByBytes() {
+        SimpleListBatcher<String> batcher = new SimpleListBatcher<>(this::sink, 100);
+        batcher.setMaxBytes(5, String::length);
+        batcher.add("AB");
+        batcher.add("CD");
+        assertThat(batches).isEmpty();
+        batcher.add("E");
+        batcher.add("FGHIJK");
+        assertThat(batches).containsExactly(List.of("AB", "CD", "E"), List.of("FGHIJK"));
+    }
+
+    @Test
+    @DisplayName("Flush by delay")
+    public void testFlushByDelay() throws Exception {
+        SimpleListBatcher<String> batcher = new SimpleListBatcher<>(this::sink, 100);
+        assertThat(batcher.flushIfExpired()).isFalse();
+        batcher.setMaxDelay(10, TimeUnit.MILLISECONDS);
+        assertThat(batcher.remainingDelay(TimeUnit.MILLISECONDS)).isEqualTo(Long.MAX_VALUE);
+        batcher.add("A");
+        assertThat(batcher.flushIfExpired()).isFalse();
+        assertThat(batcher.remainingDelay(TimeUnit.NANOSECONDS)).isBetween(1L, TimeUnit.MILLISECONDS.toNanos(10));
+        Thread.sleep(20);
+        assertThat(batcher.remainingDelay(TimeUnit.MILLISECONDS)).isEqualTo(0);
+        assertThat(batcher.flushIfExpired()).isTrue();
+        batcher.add("B");
+        Thread.sleep(20);
+        batcher.add("C");
+        assertThat(batches).containsExactly(List.of("A"), List.of("B", "C"));
+    }
+
+    @Test
+    @DisplayName("Asynchronous hand off")
+    public void testAsynchronous() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SimpleListBatcher<String> batcher = new SimpleListBatcher<>(this::sink, 3);
+        batcher.setExecutor(executor);
+        for (int i = 0; i < 10; i++) {
+            batcher.add(Integer.toString(i));
+        }
+        batcher.close();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).containsExactly(
+                List.of("0", "1", "2"), List.of("3", "4", "5"), List.of("6", "7", "8"), List.of("9"));
+    }
+
+    @Test
+    @DisplayName("Double buffering waits for slow sink")
+    public void testDoubleBuffering() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        List<SimpleList<String>> delivered = Collections.synchronizedList(new ArrayList<>());
+        SimpleListBatcher<String> batcher = new SimpleListBatcher<>(batch -> {
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.add(batch);
+        }, 1);
+        batcher.setExecutor(executor);
+        AtomicBoolean third = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            batcher.add("A");
+            batcher.add("B");
+            third.set(true);
+        });
+        producer.start();
+        producer.join(200);
+        assertThat(producer.isAlive()).isTrue();
+        assertThat(third.get()).isFalse();
+        release.countDown();
+        producer.join(10_000);
+        assertThat(third.get()).isTrue();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered).hasSize(2);
+        assertThat(delivered.get(0)).isNotSameAs(delivered.get(1));
+    }
+
+    @Test
+    @DisplayName("Rejected delivery keeps elements buffered")
+    public void testRejected() {
+        SimpleListBatcher<String> batcher = new SimpleListBatcher<>(this::sink, 2);
+        AtomicBoolean reject = new AtomicBoolean(true);
+        batcher.setExecutor(task -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        });
+        batcher.add("A");
+        assertThatThrownBy(() -> batcher.add("B")).isInstanceOf(RejectedExecutionException.class);
+        assertThat(batcher.size()).isEqualTo(2);
+        reject.set(false);
+        batcher.flush();
+        batcher.add("C");
+        batcher.add("D");
+        assertThat(batches).containsExactly(List.of("A", "B"), List.of("C", "D"));
+        assertThat(batcher.size()).isEqualTo(0);
+    }
+
+}
@@ -0,0 +1,80 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleListCursorTest {
+
+    private static SimpleList<Integer> sequence(int size) {
+        SimpleList<Integer> list = new SimpleList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 7, 64, 1000 })
+    @DisplayName("Batches cover whole list in order")
+    public void testBatches(int batchSize) {
+        SimpleList<Integer> list = sequence(1000);
+        SimpleListCursor<Integer> cursor = list.cursor();
+        Integer[] buffer = new Integer[batchSize];
+        List<Integer> result = new ArrayList<>();
+        int copied;
+        while ((copied = cursor.nextBatch(buffer)) > 0) {
+            result.addAll(Arrays.asList(buffer).subList(0, copied));
+        }
+        assertThat(result).isEqualTo(list);
+        assertThat(cursor.hasNext()).isFalse();
+        assertThat(cursor.position()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Cursor follows appends and ends after clear")
+    public void testAppendAndClear() {
+        SimpleList<String> list = new SimpleList<>(List.of("A", "B", "C"));
+        SimpleListCursor<String> cursor = list.cursor(1);
+        String[] buffer = new String[4];
+        assertThat(cursor.nextBatch(buffer, 1)).isEqualTo(1);
+        assertThat(buffer[0]).isEqualTo("B");
+        list.addAll(List.of("D", "E"));
+        assertThat(cursor.nextBatch(buffer)).isEqualTo(3);
+        assertThat(buffer).containsExactly("C", "D", "E", null);
+        assertThat(cursor.nextBatch(buffer)).isEqualTo(0);
+        list.clear();
+        assertThat(cursor.hasNext()).isFalse();
+        assertThat(cursor.nextBatch(buffer)).isEqualTo(0);
+        assertThatThrownBy(() -> cursor.nextBatch(buffer, 5)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.cursor(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Copy range bounds and array type")
+    public void testCopyRange() {
+        SimpleList<Object> list = new SimpleList<>(List.of("A", "B", 3));
+        Object[] dest = new Object[5];
+        list.copyRange(0, 3, dest, 2);
+        assertThat(dest).containsExactly(null, null, "A", "B", 3);
+        list.copyRange(1, 1, dest, 5);
+        assertThatThrownBy(() -> list.copyRange(2, 4, dest, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.copyRange(0, 3, dest, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.copyRange(0, 3, new String[3], 0)).isInstanceOf(ArrayStoreException.class);
+        assertThatThrownBy(() -> new SimpleList<>().copyRange(0, 1, dest, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+        new SimpleList<>().copyRange(0, 0, dest, 0);
+    }
+
+}
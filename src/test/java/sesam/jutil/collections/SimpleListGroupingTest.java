@@ -0,0 +1,118 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class SimpleListGroupingTest {
+
+    private enum Color {
+        RED, GREEN, BLUE
+    }
+
+    private static SimpleList<Integer> numbers(int size) {
+        SimpleList<Integer> list = new SimpleList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static void assertGroup(SimpleList<Integer> group, int remainder, int modulus, int size) {
+        int expected = 0;
+        for (int i = remainder; i < size; i += modulus) {
+            assertThat(group.get(expected)).isEqualTo(i);
+            expected = expected + 1;
+        }
+        assertThat(group.size()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "false, false", "true, false", "false, true", "true, true" })
+    @DisplayName("Object keys keep encounter order in every mode")
+    public void testGroupBy(boolean presize, boolean parallel) {
+        int size = 100_000;
+        AtomicInteger calls = new AtomicInteger();
+        Map<String, SimpleList<Integer>> groups = SimpleListGrouping.groupBy(numbers(size), i -> {
+            calls.incrementAndGet();
+            return "#" + i % 7;
+        }, presize, parallel);
+        assertThat(calls.get()).isEqualTo(size);
+        assertThat(groups).hasSize(7);
+        for (int remainder = 0; remainder < 7; remainder++) {
+            assertGroup(groups.get("#" + remainder), remainder, 7, size);
+        }
+        if (presize || parallel) {
+            assertThat(groups.get("#0").capacity()).isEqualTo(groups.get("#0").size());
+        }
+    }
+
+    @Test
+    @DisplayName("Null keys and empty lists")
+    public void testGroupByEdgeCases() {
+        SimpleList<String> list = new SimpleList<>();
+        list.add("A");
+        list.add(null);
+        Map<Integer, SimpleList<String>> groups = SimpleListGrouping.groupBy(list, s -> s == null ? null : s.length());
+        assertThat(groups.get(null)).containsExactly((String) null);
+        assertThat(groups.get(1)).containsExactly("A");
+        assertThat(SimpleListGrouping.groupBy(new SimpleList<String>(), String::length, true, true)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "false, false", "true, false", "false, true", "true, true" })
+    @DisplayName("Int keys are grouped by index")
+    public void testGroupByInt(boolean presize, boolean parallel) {
+        int size = 100_000;
+        SimpleList<SimpleList<Integer>> groups = SimpleListGrouping.groupByInt(numbers(size), 5, i -> i % 3, presize, parallel);
+        assertThat(groups.size()).isEqualTo(5);
+        for (int remainder = 0; remainder < 3; remainder++) {
+            assertGroup(groups.get(remainder), remainder, 3, size);
+        }
+        assertThat(groups.get(3)).isEmpty();
+        assertThat(groups.get(4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Invalid int keys are rejected")
+    public void testGroupByIntInvalid() {
+        assertThatThrownBy(() -> SimpleListGrouping.groupByInt(numbers(3), -1, i -> 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SimpleListGrouping.groupByInt(numbers(3), 2, i -> i)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SimpleListGrouping.groupByInt(numbers(3), 2, i -> i - 1, true, false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "false, false", "true, true" })
+    @DisplayName("Enum keys contain all constants")
+    public void testGroupByEnum(boolean presize, boolean parallel) {
+        Color[] colors = Color.values();
+        EnumMap<Color, SimpleList<Integer>> groups = SimpleListGrouping.groupByEnum(numbers(10), Color.class, i -> colors[i % 2], presize, parallel);
+        assertThat(groups.keySet()).containsExactly(Color.RED, Color.GREEN, Color.BLUE);
+        assertThat(groups.get(Color.RED)).containsExactly(0, 2, 4, 6, 8);
+        assertThat(groups.get(Color.GREEN)).containsExactly(1, 3, 5, 7, 9);
+        assertThat(groups.get(Color.BLUE)).isEmpty();
+        assertThatThrownBy(() -> SimpleListGrouping.groupByEnum(numbers(1), Color.class, i -> null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Partition into matching and not matching elements")
+    public void testPartition() {
+        Map<Boolean, SimpleList<Integer>> parts = SimpleListGrouping.partition(numbers(6), i -> i < 2, false);
+        assertThat(parts.get(true)).containsExactly(0, 1);
+        assertThat(parts.get(false)).containsExactly(2, 3, 4, 5);
+        assertThat(SimpleListGrouping.partition(new SimpleList<Integer>(), i -> true, true).get(true)).isEmpty();
+    }
+
+}
@@ -0,0 +1,80 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleListLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file(String content) throws IOException {
+        return Files.writeString(directory.resolve("lines.txt"), content, StandardCharsets.UTF_8);
+    }
+
+    private SimpleList<String> load(Path file, int chunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            return SimpleListLoader.load(channel, StandardCharsets.UTF_8, Function.identity(), chunkBytes);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 7, 64, 100_000 })
+    @DisplayName("Lines are loaded in file order independent of chunk size")
+    public void testChunks(int chunkBytes) throws IOException {
+        String content = "first\r\n\nGrüße\n日本語\n" + "x".repeat(20_000) + "\nlast";
+        SimpleList<String> result = load(file(content), chunkBytes);
+        assertThat(result).containsExactly("first", "", "Grüße", "日本語", "x".repeat(20_000), "last");
+        assertThat(result.capacity()).isEqualTo(result.size());
+    }
+
+    @Test
+    @DisplayName("Parsed elements of large file keep order")
+    public void testParser() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            lines.add(Integer.toString(i));
+        }
+        Path file = Files.write(directory.resolve("numbers.csv"), lines);
+        SimpleList<Integer> result = SimpleListLoader.load(file, Integer::valueOf);
+        assertThat(result.size()).isEqualTo(200_000);
+        try (FileChannel channel = FileChannel.open(file)) {
+            result = SimpleListLoader.load(channel, StandardCharsets.UTF_8, Integer::valueOf, 4096);
+        }
+        for (int i = 0; i < 200_000; i++) {
+            assertThat(result.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("Empty file, trailing line feed and invalid input")
+    public void testEdgeCases() throws IOException {
+        assertThat(load(file(""), 10)).isEmpty();
+        assertThat(load(file("\n"), 10)).containsExactly("");
+        assertThat(load(file("a\nb\n"), 1)).containsExactly("a", "b");
+        Path file = file("1\nx\n");
+        assertThatThrownBy(() -> SimpleListLoader.load(file, Integer::valueOf)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> SimpleListLoader.load(file, StandardCharsets.UTF_16, Integer::valueOf))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
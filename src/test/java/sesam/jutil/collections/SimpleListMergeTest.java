@@ -0,0 +1,124 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleListMergeTest {
+
+    private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+    private record Entry(int key, String source) {
+    }
+
+    private static SimpleList<Integer> of(Integer... values) {
+        SimpleList<Integer> list = new SimpleList<>();
+        list.addAll(values);
+        return list;
+    }
+
+    private static SimpleList<Integer> sorted(Random random, int size, int bound) {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values.add(random.nextInt(bound));
+        }
+        values.sort(NATURAL);
+        return new SimpleList<>(values);
+    }
+
+    @Test
+    @DisplayName("Merge keeps order of lists for equal elements")
+    public void testMergeStable() {
+        SimpleList<Entry> first = new SimpleList<>();
+        SimpleList<Entry> second = new SimpleList<>();
+        SimpleList<Entry> third = new SimpleList<>();
+        first.add(new Entry(1, "first"));
+        first.add(new Entry(3, "first"));
+        second.add(new Entry(1, "second"));
+        second.add(new Entry(2, "second"));
+        second.add(new Entry(3, "second"));
+        third.add(new Entry(0, "third"));
+        third.add(new Entry(3, "third"));
+        SimpleList<Entry> merged = SimpleListMerge.merge(List.of(first, second, third), Comparator.comparingInt(Entry::key));
+        assertThat(merged).containsExactly(
+            new Entry(0, "third"), new Entry(1, "first"), new Entry(1, "second"), new Entry(2, "second"),
+            new Entry(3, "first"), new Entry(3, "second"), new Entry(3, "third"));
+        assertThat(merged.capacity()).isEqualTo(7);
+        assertThat(SimpleListMerge.merge(List.of(of(), of(), of(1)), NATURAL)).containsExactly(1);
+        assertThat(SimpleListMerge.merge(List.<SimpleList<Integer>>of(), NATURAL)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Merge of many lists matches sorted concatenation")
+    public void testMergeMany(boolean parallel) {
+        Random random = new Random(7);
+        List<SimpleList<Integer>> lists = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            SimpleList<Integer> list = sorted(random, random.nextInt(10_000), 5_000);
+            lists.add(list);
+            expected.addAll(list);
+        }
+        expected.sort(NATURAL);
+        SimpleList<Integer> merged = SimpleListMerge.merge(lists, NATURAL, parallel);
+        assertThat(merged).isEqualTo(expected);
+        assertThat(merged.capacity()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("Join emits every pair of equal keys")
+    public void testJoin() {
+        SimpleList<Entry> left = new SimpleList<>();
+        SimpleList<Integer> right = of(1, 2, 2, 4);
+        left.add(new Entry(0, "a"));
+        left.add(new Entry(2, "b"));
+        left.add(new Entry(2, "c"));
+        left.add(new Entry(4, "d"));
+        left.add(new Entry(5, "e"));
+        List<String> pairs = new ArrayList<>();
+        long count = SimpleListMerge.join(left, Entry::key, right, Integer::intValue, Comparator.<Integer>naturalOrder(),
+            (l, r) -> pairs.add(l.source() + r));
+        assertThat(count).isEqualTo(5);
+        assertThat(pairs).containsExactly("b2", "b2", "c2", "c2", "d4");
+        assertThat(SimpleListMerge.join(new SimpleList<Entry>(), Entry::key, right, Integer::intValue, Comparator.<Integer>naturalOrder(), (l, r) -> { })).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Set operations have multiset semantics")
+    public void testSetOperations() {
+        SimpleList<Integer> a = of(1, 2, 2, 2, 3, 5);
+        SimpleList<Integer> b = of(2, 2, 4, 5, 5);
+        assertThat(SimpleListMerge.intersection(a, b, NATURAL)).containsExactly(2, 2, 5);
+        assertThat(SimpleListMerge.union(a, b, NATURAL)).containsExactly(1, 2, 2, 2, 3, 4, 5, 5);
+        assertThat(SimpleListMerge.difference(a, b, NATURAL)).containsExactly(1, 2, 3);
+        assertThat(SimpleListMerge.difference(b, a, NATURAL)).containsExactly(4, 5);
+        assertThat(SimpleListMerge.union(of(), b, NATURAL)).containsExactly(2, 2, 4, 5, 5);
+        assertThat(SimpleListMerge.intersection(a, of(), NATURAL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Parallel set operations match sequential results")
+    public void testParallelSetOperations() {
+        Random random = new Random(11);
+        SimpleList<Integer> a = sorted(random, 80_000, 20_000);
+        SimpleList<Integer> b = sorted(random, 60_000, 20_000);
+        assertThat(SimpleListMerge.intersection(a, b, NATURAL, true)).isEqualTo(SimpleListMerge.intersection(a, b, NATURAL));
+        assertThat(SimpleListMerge.union(a, b, NATURAL, true)).isEqualTo(SimpleListMerge.union(a, b, NATURAL));
+        assertThat(SimpleListMerge.difference(a, b, NATURAL, true)).isEqualTo(SimpleListMerge.difference(a, b, NATURAL));
+        assertThat(SimpleListMerge.union(a, b, NATURAL).size()).isLessThanOrEqualTo(a.size() + b.size());
+    }
+
+}
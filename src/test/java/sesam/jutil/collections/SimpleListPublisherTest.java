@@ -0,0 +1,199 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SimpleListPublisherTest {
+
+    private static class Collector<E> implements Flow.Subscriber<E> {
+
+        private final List<E> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final long initialRequest;
+        private Flow.Subscription subscription;
+        private Throwable error;
+
+        Collector(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(E item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Existing elements, following appends and completion")
+    public void testFollow() {
+        SimpleListPublisher<Integer> publisher = new SimpleListPublisher<>(Runnable::run, 2, 1, 1);
+        publisher.addAll(List.of(1, 2, 3));
+        Collector<Integer> collector = new Collector<>(Long.MAX_VALUE);
+        publisher.subscribe(collector);
+        assertThat(collector.received).containsExactly(1, 2, 3);
+        publisher.add(4);
+        publisher.addAll(List.of(5, 6, 7));
+        assertThat(collector.received).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(collector.completed.getCount()).isEqualTo(1);
+        publisher.close();
+        assertThat(collector.completed.getCount()).isEqualTo(0);
+        assertThat(publisher.size()).isEqualTo(7);
+        assertThat(publisher.get(6)).isEqualTo(7);
+        assertThatThrownBy(() -> publisher.add(8)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> publisher.get(7)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Backpressure, cancel and invalid request")
+    public void testBackpressure() {
+        SimpleListPublisher<String> publisher = new SimpleListPublisher<>(Runnable::run, 16);
+        Collector<String> slow = new Collector<>(0);
+        Collector<String> cancelled = new Collector<>(1);
+        Collector<String> invalid = new Collector<>(0);
+        publisher.subscribe(slow);
+        publisher.subscribe(cancelled);
+        publisher.subscribe(invalid);
+        publisher.addAll(List.of("A", "B", "C"));
+        assertThat(slow.received).isEmpty();
+        assertThat(cancelled.received).containsExactly("A");
+        slow.subscription.request(2);
+        assertThat(slow.received).containsExactly("A", "B");
+        cancelled.subscription.cancel();
+        cancelled.subscription.request(5);
+        invalid.subscription.request(0);
+        assertThat(invalid.error).isInstanceOf(IllegalArgumentException.class);
+        publisher.close();
+        assertThat(slow.completed.getCount()).isEqualTo(1);
+        slow.subscription.request(1);
+        assertThat(slow.received).containsExactly("A", "B", "C");
+        assertThat(slow.completed.getCount()).isEqualTo(0);
+        assertThat(cancelled.received).containsExactly("A");
+        assertThat(cancelled.completed.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Throwing subscriber is cancelled, other subscribers continue")
+    public void testThrowingSubscriber() {
+        SimpleListPublisher<Integer> publisher = new SimpleListPublisher<>(Runnable::run, 16);
+        Collector<Integer> failing = new Collector<>(Long.MAX_VALUE) {
+
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                if (item == 2) {
+                    throw new IllegalStateException("Subscriber failure");
+                }
+            }
+        };
+        Collector<Integer> healthy = new Collector<>(Long.MAX_VALUE);
+        publisher.subscribe(failing);
+        publisher.subscribe(healthy);
+        publisher.addAll(List.of(1, 2, 3));
+        publisher.add(4);
+        assertThat(failing.received).containsExactly(1, 2);
+        assertThat(failing.error).isInstanceOf(IllegalStateException.class).hasMessage("Subscriber failure");
+        assertThat(publisher.subscribers()).isEqualTo(1);
+        publisher.close();
+        assertThat(healthy.received).containsExactly(1, 2, 3, 4);
+        assertThat(healthy.completed.getCount()).isEqualTo(0);
+        assertThat(publisher.subscribers()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Rejected drain task is passed to subscriber, append succeeds")
+    public void testRejectedExecution() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        SimpleListPublisher<Integer> publisher = new SimpleListPublisher<>(executor, 16);
+        Collector<Integer> collector = new Collector<>(Long.MAX_VALUE);
+        publisher.subscribe(collector);
+        assertThat(collector.error).isInstanceOf(RejectedExecutionException.class);
+        assertThat(publisher.subscribers()).isEqualTo(0);
+        assertThat(publisher.add(1)).isTrue();
+        assertThat(publisher.get(0)).isEqualTo(1);
+        AtomicBoolean rejecting = new AtomicBoolean();
+        SimpleListPublisher<Integer> following = new SimpleListPublisher<>(task -> {
+            if (rejecting.get()) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        }, 16);
+        Collector<Integer> follower = new Collector<>(Long.MAX_VALUE);
+        following.subscribe(follower);
+        following.add(1);
+        rejecting.set(true);
+        assertThat(following.add(2)).isTrue();
+        assertThat(follower.received).containsExactly(1);
+        assertThat(follower.error).isInstanceOf(RejectedExecutionException.class);
+        assertThat(following.subscribers()).isEqualTo(0);
+        assertThat(following.add(3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Concurrent producer and subscribers")
+    public void testConcurrent() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            SimpleListPublisher<Integer> publisher = new SimpleListPublisher<>(executor, 64);
+            Collector<Integer> early = new Collector<>(Long.MAX_VALUE);
+            publisher.subscribe(early);
+            for (int i = 0; i < 100_000; i++) {
+                publisher.add(i);
+                if (i == 50_000) {
+                    publisher.subscribe(new Collector<>(Long.MAX_VALUE));
+                }
+            }
+            Collector<Integer> late = new Collector<>(Long.MAX_VALUE);
+            publisher.subscribe(late);
+            publisher.close();
+            assertThat(early.completed.await(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(late.completed.await(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(early.received).hasSize(100_000);
+            assertThat(late.received).hasSize(100_000);
+            for (int i = 0; i < 100_000; i += 997) {
+                assertThat(early.received.get(i)).isEqualTo(i);
+                assertThat(late.received.get(i)).isEqualTo(i);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
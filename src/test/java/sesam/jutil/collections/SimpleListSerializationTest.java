@@ -0,0 +1,128 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class SimpleListSerializationTest {
+
+    public static Stream<Arguments> testRoundTripValues() {
+        return Stream.of(
+                Arguments.of(ElementCodec.INTEGER, Arrays.asList(1, -2, Integer.MAX_VALUE)),
+                Arguments.of(ElementCodec.LONG, Arrays.asList(Long.MIN_VALUE, 0L)),
+                Arguments.of(ElementCodec.DOUBLE, Arrays.asList(Double.NaN, -0.0, 1.5)),
+                Arguments.of(ElementCodec.STRING, Arrays.asList("", "Grüße", "日本", "x".repeat(70_000))),
+                Arguments.of(ElementCodec.nullable(ElementCodec.STRING), Arrays.asList("A", null, "B")),
+                Arguments.of(ElementCodec.INTEGER, List.of()));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @ParameterizedTest
+    @MethodSource("testRoundTripValues")
+    @DisplayName("Written list is read unchanged into exactly sized list")
+    public void testRoundTrip(ElementCodec codec, List<Object> values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SimpleListSerialization.write(new SimpleList<>(values), codec, bytes);
+        SimpleList<Object> result = SimpleListSerialization.read(new ByteArrayInputStream(bytes.toByteArray()), codec);
+        assertThat(result).containsExactlyElementsOf(values);
+        assertThat(result.capacity()).isEqualTo(values.size());
+        List<Object> streamed = new ArrayList<>();
+        int count = SimpleListSerialization.read(new ByteArrayInputStream(bytes.toByteArray()), codec, streamed::add);
+        assertThat(count).isEqualTo(values.size());
+        assertThat(streamed).containsExactlyElementsOf(values);
+    }
+
+    @Test
+    @DisplayName("Several lists follow each other in one stream")
+    public void testConsecutiveLists() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutput out = new DataOutputStream(bytes);
+        SimpleListSerialization.write(new SimpleList<>(List.of(1L, 2L)), ElementCodec.LONG, out);
+        SimpleListSerialization.write(new SimpleList<>(List.of(3L)), ElementCodec.LONG, out);
+        out.writeInt(42);
+        DataInput in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(SimpleListSerialization.read(in, ElementCodec.LONG)).containsExactly(1L, 2L);
+        assertThat(SimpleListSerialization.read(in, ElementCodec.LONG)).containsExactly(3L);
+        assertThat(in.readInt()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Corrupted input")
+    public void testCorruptedInput() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutput out = new DataOutputStream(bytes);
+        out.writeInt(SimpleListSerialization.MAGIC);
+        out.writeByte(SimpleListSerialization.VERSION);
+        out.writeInt(-1);
+        assertThatThrownBy(() -> SimpleListSerialization.read(new ByteArrayInputStream(bytes.toByteArray()), ElementCodec.INTEGER))
+            .isInstanceOf(StreamCorruptedException.class)
+            .hasMessage("Invalid count: [-1]");
+        assertThatThrownBy(() -> SimpleListSerialization.read(new ByteArrayInputStream(new byte[9]), ElementCodec.INTEGER))
+            .isInstanceOf(StreamCorruptedException.class)
+            .hasMessage("Invalid magic: [0]");
+        assertThatThrownBy(() -> ElementCodec.INTEGER.write(new DataOutputStream(bytes), null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Header count does not drive allocation beyond arrived elements")
+    public void testLargeCount() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutput out = new DataOutputStream(bytes);
+        out.writeInt(SimpleListSerialization.MAGIC);
+        out.writeByte(SimpleListSerialization.VERSION);
+        out.writeInt(Integer.MAX_VALUE);
+        out.writeInt(1);
+        out.writeInt(2);
+        assertThatThrownBy(() -> SimpleListSerialization.read(new ByteArrayInputStream(bytes.toByteArray()), ElementCodec.INTEGER))
+            .isInstanceOf(EOFException.class);
+        SimpleList<Integer> values = new SimpleList<>();
+        for (int i = 0; i < 3 * SimpleListSerialization.MAX_RESERVE + 7; i++) {
+            values.add(i);
+        }
+        ByteArrayOutputStream large = new ByteArrayOutputStream();
+        SimpleListSerialization.write(values, ElementCodec.INTEGER, large);
+        SimpleList<Integer> read = SimpleListSerialization.read(new ByteArrayInputStream(large.toByteArray()), ElementCodec.INTEGER);
+        assertThat(read).isEqualTo(values);
+        assertThat(read.capacity()).isLessThan(2 * values.size());
+    }
+
+    @Test
+    @DisplayName("String length does not drive allocation beyond arrived bytes")
+    public void testLargeStringLength() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutput out = new DataOutputStream(bytes);
+        out.writeInt(Integer.MAX_VALUE);
+        out.write(new byte[3 * ElementCodec.MAX_STRING_RESERVE]);
+        assertThatThrownBy(() -> ElementCodec.STRING.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))))
+            .isInstanceOf(EOFException.class);
+        String large = "Grüße".repeat(ElementCodec.MAX_STRING_RESERVE);
+        bytes.reset();
+        ElementCodec.STRING.write(out, large);
+        assertThat(ElementCodec.STRING.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))).isEqualTo(large);
+    }
+
+}
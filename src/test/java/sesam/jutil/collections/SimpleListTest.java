@@ -12,9 +12,12 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.Arrays;
@@ -461,5 +464,121 @@ public void testClearListDuringIteration() {
 
     }
 
+    @Nested
+    @DisplayName("Methods equals/hashCode")
+    public class EqualityTests {
+
+        @Test
+        @DisplayName("Hash code follows List contract after add/addAll/clear")
+        public void testHashCode() {
+            List<String> reference = new ArrayList<>();
+            SimpleList<String> list = new SimpleList<>(1, 1);
+            assertThat(list.hashCode()).isEqualTo(reference.hashCode());
+            list.add("A");
+            reference.add("A");
+            list.addAll(List.of("B", "C"));
+            reference.addAll(List.of("B", "C"));
+            list.add(null);
+            reference.add(null);
+            assertThat(list.hashCode()).isEqualTo(reference.hashCode());
+            list.clear();
+            assertThat(list.hashCode()).isEqualTo(Collections.emptyList().hashCode());
+        }
+
+        @Test
+        @DisplayName("Equality with SimpleList and other List implementations")
+        public void testEquals() {
+            SimpleList<String> list = new SimpleList<>(List.of("A", "B"));
+            SimpleList<String> same = new SimpleList<>(1, 1);
+            same.add("A");
+            same.add("B");
+            SimpleDictionaryList<String> dictionary = new SimpleDictionaryList<>();
+            dictionary.addAll(List.of("A", "B"));
+            assertThat(list).isEqualTo(same);
+            assertThat(same).isEqualTo(list);
+            assertThat(list.equals(List.of("A", "B"))).isTrue();
+            assertThat(List.of("A", "B").equals(list)).isTrue();
+            assertThat(list.equals(dictionary)).isTrue();
+            assertThat(dictionary.equals(list)).isTrue();
+            assertThat(dictionary.hashCode()).isEqualTo(list.hashCode());
+            assertThat(list.equals(List.of("A", "C"))).isFalse();
+            assertThat(list.equals(new SimpleList<>(List.of("B", "A")))).isFalse();
+            assertThat(list.equals(new SimpleList<>(List.of("A")))).isFalse();
+            assertThat(list.equals(Set.of("A", "B"))).isFalse();
+            assertThat(new SimpleList<>().equals(new SimpleList<>())).isTrue();
+            assertThat(new SimpleList<>().equals(new ArrayList<>())).isTrue();
+        }
+
+        @Test
+        @DisplayName("Lists are usable as map keys")
+        public void testMapKey() {
+            Map<List<Integer>, String> cache = new HashMap<>();
+            cache.put(new SimpleList<>(List.of(1, 2, 3)), "value");
+            assertThat(cache.get(new SimpleList<>(List.of(1, 2, 3)))).isEqualTo("value");
+            assertThat(cache.get(List.of(1, 2, 3))).isEqualTo("value");
+            assertThat(cache.get(new SimpleList<>(List.of(1, 2)))).isNull();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Methods addAll fast paths/reserve")
+    public class BulkAddTests {
+
+        @Test
+        @DisplayName("Add arrays and array ranges")
+        public void testAddArray() {
+            SimpleList<String> list = new SimpleList<>(1, 1);
+            assertThat(list.addAll(new String[0])).isFalse();
+            assertThat(list.addAll(new String[] { "A", "B" })).isTrue();
+            assertThat(list.addAll(new String[] { "X", "C", null, "Y" }, 1, 3)).isTrue();
+            assertThat(list.addAll(new String[] { "X" }, 1, 1)).isFalse();
+            assertThat(list).containsExactly("A", "B", "C", null);
+            List<String> reference = new ArrayList<>(List.of("A", "B", "C"));
+            reference.add(null);
+            assertThat(list.hashCode()).isEqualTo(reference.hashCode());
+            assertThatThrownBy(() -> list.addAll(new String[1], 0, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("Add SimpleList, itself and other collections")
+        public void testAddCollections() {
+            SimpleList<Integer> list = new SimpleList<>(List.of(1, 2));
+            SimpleList<Integer> other = new SimpleList<>();
+            for (int i = 0; i < 1000; i++) {
+                other.add(i);
+            }
+            assertThat(list.addAll(other)).isTrue();
+            assertThat(list.addAll(new SimpleList<>())).isFalse();
+            assertThat(list.addAll(list)).isTrue();
+            assertThat(list.addAll(Set.of(5))).isTrue();
+            List<Integer> reference = new ArrayList<>(List.of(1, 2));
+            reference.addAll(other);
+            reference.addAll(new ArrayList<>(reference));
+            reference.add(5);
+            assertThat(list).isEqualTo(reference);
+            assertThat(list.hashCode()).isEqualTo(reference.hashCode());
+        }
+
+        @Test
+        @DisplayName("Reserve presizes internal array")
+        public void testReserve() {
+            SimpleList<Integer> list = new SimpleList<>();
+            list.reserve(0);
+            assertThat(list.capacity()).isEqualTo(0);
+            list.reserve(500);
+            assertThat(list.capacity()).isEqualTo(500);
+            for (int i = 0; i < 500; i++) {
+                list.add(i);
+            }
+            assertThat(list.capacity()).isEqualTo(500);
+            list.reserve(50);
+            assertThat(list.capacity()).isEqualTo(500 + 50 + SimpleList.DEFAULT_ADDITIONAL);
+            list.reserve(10);
+            assertThat(list.capacity()).isEqualTo(500 + 50 + SimpleList.DEFAULT_ADDITIONAL);
+            assertThatThrownBy(() -> list.reserve(-1)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
 
 }
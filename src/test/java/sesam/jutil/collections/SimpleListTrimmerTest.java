@@ -0,0 +1,78 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.management.MemoryNotificationInfo;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.Notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SimpleListTrimmerTest {
+
+    @Test
+    @DisplayName("Idle lists are trimmed after two sweeps")
+    public void testSweep() {
+        SimpleListTrimmer trimmer = new SimpleListTrimmer();
+        SimpleList<String> idle = new SimpleList<>();
+        SimpleList<String> active = new SimpleList<>();
+        SimpleList<String> empty = new SimpleList<>();
+        SimpleLongList values = new SimpleLongList();
+        idle.add("A");
+        active.add("A");
+        empty.add("A");
+        empty.clear();
+        values.addAll(1, 2, 3);
+        trimmer.register(idle);
+        trimmer.register(active);
+        trimmer.register(empty);
+        trimmer.register(values);
+        assertThat(trimmer.size()).isEqualTo(4);
+        assertThat(trimmer.sweep()).isEqualTo(0);
+        active.add("B");
+        assertThat(trimmer.sweep()).isEqualTo(3);
+        assertThat(idle.capacity()).isEqualTo(1);
+        assertThat(empty.capacity()).isEqualTo(0);
+        assertThat(values.capacity()).isEqualTo(3);
+        assertThat(active.capacity()).isEqualTo(1 + SimpleList.DEFAULT_INITIAL);
+        assertThat(idle).containsExactly("A");
+        idle.add("B");
+        assertThat(idle).containsExactly("A", "B");
+        values.add(4);
+        assertThat(values.toArray()).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Memory notifications signal pressure, owner sweeps")
+    public void testNotifications() {
+        SimpleListTrimmer trimmer = new SimpleListTrimmer();
+        SimpleList<String> list = new SimpleList<>();
+        list.add("A");
+        trimmer.register(list);
+        trimmer.sweep();
+        AtomicInteger signals = new AtomicInteger();
+        trimmer.addPressureListener(signals::incrementAndGet);
+        trimmer.handleNotification(new Notification("other", this, 1), null);
+        assertThat(trimmer.isUnderPressure()).isFalse();
+        assertThat(trimmer.sweepIfPressure()).isFalse();
+        trimmer.handleNotification(new Notification(MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED, this, 2), null);
+        assertThat(signals.get()).isEqualTo(1);
+        assertThat(trimmer.isUnderPressure()).isTrue();
+        assertThat(list.capacity()).isEqualTo(1 + SimpleList.DEFAULT_INITIAL);
+        assertThat(trimmer.sweepIfPressure()).isTrue();
+        assertThat(list.capacity()).isEqualTo(1);
+        assertThat(trimmer.isUnderPressure()).isFalse();
+        assertThat(trimmer.sweepIfPressure()).isFalse();
+        assertThatThrownBy(() -> trimmer.install(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trimmer.install(1.5)).isInstanceOf(IllegalArgumentException.class);
+        trimmer.uninstall();
+    }
+
+}
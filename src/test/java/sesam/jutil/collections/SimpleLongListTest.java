@@ -0,0 +1,237 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleLongListTest {
+
+    private SimpleLongList sequence(int size) {
+        SimpleLongList list = new SimpleLongList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("Add/get/size/isEmpty/toArray")
+    public void testAddGet() {
+        SimpleLongList list = new SimpleLongList(3);
+        assertThat(list.isEmpty()).isTrue();
+        for (long i = 0; i < 500; i++) {
+            list.add(i * Integer.MAX_VALUE);
+        }
+        assertThat(list.size()).isEqualTo(500);
+        assertThat(list.get(499)).isEqualTo(499L * Integer.MAX_VALUE);
+        assertThat(list.toArray()).hasSize(500).startsWith(0L, Integer.MAX_VALUE);
+        assertThatThrownBy(() -> list.get(500)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Search and clear")
+    public void testSearchAndClear() {
+        SimpleLongList list = new SimpleLongList();
+        list.addAll(7, 8, 7);
+        assertThat(list.indexOf(7)).isEqualTo(0);
+        assertThat(list.lastIndexOf(7)).isEqualTo(2);
+        assertThat(list.contains(9)).isFalse();
+        list.clear();
+        assertThat(list.size()).isEqualTo(0);
+        assertThat(list.indexOf(7)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Exact selection keeps list order")
+    public void testSelect() {
+        SimpleLongList list = new SimpleLongList();
+        Random random = new Random(3);
+        for (int i = 0; i < 10_001; i++) {
+            list.add(random.nextInt(500) - 250);
+        }
+        long[] original = list.toArray();
+        long[] sorted = list.toArray();
+        Arrays.sort(sorted);
+        for (int k : new int[] { 0, 1, 2_500, 5_000, 9_900, 10_000 }) {
+            assertThat(list.select(k)).isEqualTo(sorted[k]);
+        }
+        int[] ks = { 9_900, 0, 5_000, 10_000, 5_000, 1, 9_000 };
+        long[] selected = list.select(ks);
+        for (int i = 0; i < ks.length; i++) {
+            assertThat(selected[i]).isEqualTo(sorted[ks[i]]);
+        }
+        assertThat(list.select(new int[0])).isEmpty();
+        assertThat(list.toArray()).isEqualTo(original);
+        assertThatThrownBy(() -> list.select(10_001)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.select(0, 10_001)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> new SimpleLongList().select(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Copy range and batched cursor")
+    public void testCursor() {
+        SimpleLongList list = sequence(10);
+        long[] dest = new long[4];
+        list.copyRange(8, 10, dest, 2);
+        assertThat(dest).containsExactly(0, 0, 8, 9);
+        assertThatThrownBy(() -> list.copyRange(8, 11, dest, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+        SimpleLongList.Cursor cursor = list.cursor();
+        assertThat(cursor.nextBatch(dest, 4)).isEqualTo(4);
+        assertThat(dest).containsExactly(0, 1, 2, 3);
+        assertThat(cursor.nextBatch(dest, 4)).isEqualTo(4);
+        assertThat(cursor.nextBatch(dest, 4)).isEqualTo(2);
+        assertThat(dest).startsWith(8, 9);
+        assertThat(cursor.hasNext()).isFalse();
+        list.add(10);
+        assertThat(cursor.nextBatch(dest, 4)).isEqualTo(1);
+        assertThat(cursor.position()).isEqualTo(11);
+        assertThat(cursor.nextBatch(dest, 4)).isEqualTo(0);
+        assertThatThrownBy(() -> cursor.nextBatch(dest, 5)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Nested
+    @DisplayName("Aggregations")
+    public class Aggregations {
+
+        @Test
+        @DisplayName("Whole list and range aggregations")
+        public void testAggregations() {
+            SimpleLongList list = sequence(101);
+            assertThat(list.sum()).isEqualTo(5050L);
+            assertThat(list.min()).isEqualTo(0L);
+            assertThat(list.max()).isEqualTo(100L);
+            assertThat(list.mean()).isEqualTo(50.0);
+            assertThat(list.mean(1, 3)).isEqualTo(1.5);
+            assertThat(list.countInRange(10, 20)).isEqualTo(10);
+            assertThat(list.histogram(0, 100, 4)).containsExactly(25, 25, 25, 25);
+            assertThat(list.histogram(10, 20, 0, 10, 10)).containsExactly(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+
+        @Test
+        @DisplayName("Empty and invalid ranges")
+        public void testInvalidRange() {
+            SimpleLongList list = sequence(10);
+            assertThatThrownBy(() -> list.max(4, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> new SimpleLongList().min()).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> list.histogram(5, 4, 1)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Parallel aggregations are equal to sequential aggregations")
+        public void testParallel() {
+            SimpleLongList list = sequence(100_003);
+            long sum = list.sum();
+            long[] histogram = list.histogram(0, 100_003, 13);
+            list.setParallelThreshold(1);
+            assertThat(list.sum()).isEqualTo(sum);
+            assertThat(list.min()).isEqualTo(0L);
+            assertThat(list.max()).isEqualTo(100_002L);
+            assertThat(list.countInRange(0, 5)).isEqualTo(5);
+            assertThat(list.histogram(0, 100_003, 13)).isEqualTo(histogram);
+            assertThat(list.max(0, 1)).isEqualTo(0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Channel transfer")
+    public class ChannelTransfer {
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, 1, 131_072, 300_001 })
+        @DisplayName("File channel round trip in both byte orders")
+        public void testFileChannel(int size, @TempDir Path directory) throws IOException {
+            SimpleLongList list = new SimpleLongList();
+            for (int i = 0; i < size; i++) {
+                list.add(i * 0x0102030405L);
+            }
+            for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+                Path file = directory.resolve(order.toString());
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                    assertThat(list.writeTo(channel, order)).isEqualTo(Integer.BYTES + size * 8L);
+                }
+                try (FileChannel channel = FileChannel.open(file)) {
+                    SimpleLongList result = SimpleLongList.readFrom(channel, order);
+                    assertThat(result.size()).isEqualTo(size);
+                    assertThat(result.toArray()).isEqualTo(list.toArray());
+                }
+            }
+            assertThat(Files.readAllBytes(directory.resolve(ByteOrder.BIG_ENDIAN.toString()))).startsWith(
+                    (byte) (size >>> 24), (byte) (size >>> 16), (byte) (size >>> 8), (byte) size);
+        }
+
+        @Test
+        @DisplayName("Stream channel and truncated input")
+        public void testStreamChannel() throws IOException {
+            SimpleLongList list = sequence(1000);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            list.writeTo(Channels.newChannel(bytes), ByteOrder.nativeOrder());
+            SimpleLongList result = SimpleLongList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ByteOrder.nativeOrder());
+            assertThat(result.toArray()).isEqualTo(list.toArray());
+            result.add(1000);
+            assertThat(result.get(1000)).isEqualTo(1000L);
+            byte[] truncated = Arrays.copyOf(bytes.toByteArray(), 100);
+            assertThatThrownBy(() -> SimpleLongList.readFrom(Channels.newChannel(new ByteArrayInputStream(truncated)), ByteOrder.nativeOrder()))
+                .isInstanceOf(EOFException.class);
+        }
+
+        @Test
+        @DisplayName("Corrupt count fails without allocation for header count")
+        public void testCorruptCount() throws IOException {
+            byte[] corrupt = ByteBuffer.allocate(Integer.BYTES + 3 * Long.BYTES).putInt(Integer.MAX_VALUE).putLong(1).putLong(2).putLong(3).array();
+            assertThatThrownBy(() -> SimpleLongList.readFrom(Channels.newChannel(new ByteArrayInputStream(corrupt)), ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(EOFException.class);
+            SimpleLongList list = sequence(PrimitiveChannels.MAX_RESERVE * 3 + 7);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            list.writeTo(Channels.newChannel(bytes), ByteOrder.BIG_ENDIAN);
+            SimpleLongList result = SimpleLongList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ByteOrder.BIG_ENDIAN);
+            assertThat(result.toArray()).isEqualTo(list.toArray());
+            assertThat(result.array()).hasSize(list.size());
+        }
+
+        @Test
+        @DisplayName("Repeated transfers reuse direct buffer")
+        public void testBufferReuse() throws IOException {
+            BufferPoolMXBean direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct")).findFirst().orElseThrow();
+            SimpleLongList list = sequence(200_000);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            list.writeTo(Channels.newChannel(bytes), ByteOrder.BIG_ENDIAN);
+            long before = direct.getMemoryUsed();
+            for (int i = 0; i < 20; i++) {
+                bytes.reset();
+                list.writeTo(Channels.newChannel(bytes), ByteOrder.BIG_ENDIAN);
+                SimpleLongList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ByteOrder.BIG_ENDIAN);
+            }
+            assertThat(direct.getMemoryUsed() - before).isLessThan(PrimitiveChannels.CHUNK_BYTES);
+        }
+    }
+
+}
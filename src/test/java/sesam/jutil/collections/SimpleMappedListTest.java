@@ -0,0 +1,100 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleMappedListTest {
+
+    private static SimpleList<Integer> numbers(int size) {
+        SimpleList<Integer> list = new SimpleList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("Elements are computed once on first access")
+    public void testLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        SimpleMappedList<Integer, String> view = numbers(100).mapView(i -> {
+            calls.incrementAndGet();
+            return "#" + i;
+        });
+        assertThat(view.size()).isEqualTo(100);
+        assertThat(calls.get()).isEqualTo(0);
+        assertThat(view.get(42)).isEqualTo("#42");
+        assertThat(view.get(42)).isEqualTo("#42");
+        assertThat(view.get(7)).isEqualTo("#7");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(view.computed()).isEqualTo(2);
+        assertThatThrownBy(() -> view.get(100)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> view.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Null results are cached")
+    public void testNull() {
+        AtomicInteger calls = new AtomicInteger();
+        SimpleMappedList<Integer, String> view = numbers(4).mapView(i -> {
+            calls.incrementAndGet();
+            return i % 2 == 0 ? null : "odd";
+        });
+        assertThat(view.get(0)).isNull();
+        assertThat(view.get(0)).isNull();
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(view.indexOf(null)).isEqualTo(0);
+        assertThat(view.lastIndexOf(null)).isEqualTo(2);
+        assertThat(view.contains("odd")).isTrue();
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Materialization computes remaining elements")
+    public void testMaterialize(boolean parallel) {
+        AtomicInteger calls = new AtomicInteger();
+        SimpleMappedList<Integer, Long> view = numbers(10_000).mapView(i -> {
+            calls.incrementAndGet();
+            return (long) i * i;
+        });
+        view.get(3);
+        assertThat(view.materialize(parallel)).isSameAs(view);
+        assertThat(calls.get()).isEqualTo(10_000);
+        assertThat(view.computed()).isEqualTo(10_000);
+        assertThat(view.get(9_999)).isEqualTo(99_980_001L);
+        view.materialize(parallel);
+        assertThat(calls.get()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("View is read only snapshot of source elements")
+    public void testReadOnly() {
+        SimpleList<Integer> source = numbers(3);
+        SimpleMappedList<Integer, Integer> view = source.mapView(i -> i * 10);
+        source.add(3);
+        assertThat(view).containsExactly(0, 10, 20);
+        assertThat(view.toArray()).containsExactly(0, 10, 20);
+        assertThat(view.toArray(new Integer[0])).containsExactly(0, 10, 20);
+        assertThat(view).isEqualTo(List.of(0, 10, 20));
+        assertThat(view.hashCode()).isEqualTo(List.of(0, 10, 20).hashCode());
+        assertThat(new SimpleList<Integer>().mapView(i -> i).toArray()).isEmpty();
+        assertThatThrownBy(() -> view.add(1)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.addAll(List.of(1))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.set(0, 1)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+}
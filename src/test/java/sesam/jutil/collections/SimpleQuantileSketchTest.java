@@ -0,0 +1,84 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleQuantileSketchTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 4, SimpleQuantileSketch.DEFAULT_PRECISION, 12 })
+    @DisplayName("Quantiles stay within relative error bound")
+    public void testQuantiles(int precision) {
+        Random random = new Random(17);
+        SimpleLongList samples = new SimpleLongList();
+        for (int i = 0; i < 200_000; i++) {
+            samples.add((long) Math.exp(random.nextGaussian() * 2 + 12));
+        }
+        SimpleQuantileSketch sketch = new SimpleQuantileSketch(precision);
+        sketch.addAll(samples);
+        double error = Math.pow(2, -precision);
+        for (double quantile : new double[] { 0.01, 0.5, 0.9, 0.99, 0.999 }) {
+            long exact = samples.select((int) Math.ceil(quantile * samples.size()) - 1);
+            assertThat((double) sketch.quantile(quantile)).isCloseTo(exact, within(exact * error + 1));
+        }
+        assertThat(sketch.quantile(0)).isEqualTo(samples.min());
+        assertThat(sketch.quantile(1)).isEqualTo(samples.max());
+        assertThat(sketch.count()).isEqualTo(200_000);
+    }
+
+    @Test
+    @DisplayName("Small values are exact")
+    public void testExact() {
+        SimpleQuantileSketch sketch = new SimpleQuantileSketch();
+        for (int i = 1; i <= 100; i++) {
+            sketch.add(i);
+        }
+        assertThat(sketch.quantile(0.5)).isEqualTo(50);
+        assertThat(sketch.quantile(0.99)).isEqualTo(99);
+        assertThat(sketch.min()).isEqualTo(1);
+        assertThat(sketch.max()).isEqualTo(100);
+        sketch.add(0);
+        sketch.add(Long.MAX_VALUE);
+        assertThat(sketch.quantile(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(sketch.quantile(0)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Attach, merge and invalid arguments")
+    public void testAttachAndMerge() {
+        SimpleLongList samples = new SimpleLongList();
+        SimpleQuantileSketch first = new SimpleQuantileSketch().attach(samples);
+        samples.addAll(10, 20, 30);
+        assertThat(first.update()).isEqualTo(3);
+        samples.add(40);
+        assertThat(first.update()).isEqualTo(1);
+        SimpleQuantileSketch second = new SimpleQuantileSketch();
+        second.add(50);
+        first.merge(second);
+        assertThat(first.count()).isEqualTo(5);
+        assertThat(first.quantile(0.6)).isEqualTo(30);
+        assertThat(first.max()).isEqualTo(50);
+        first.clear();
+        assertThatThrownBy(() -> first.quantile(0.5)).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> first.min()).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> first.add(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> first.quantile(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> first.merge(new SimpleQuantileSketch(4))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleQuantileSketch(1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleQuantileSketch().update()).isInstanceOf(IllegalStateException.class);
+    }
+
+}
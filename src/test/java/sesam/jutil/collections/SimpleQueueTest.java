@@ -0,0 +1,154 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleQueueTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 5, 64, 100 })
+    @DisplayName("Capacity is rounded up to power of two")
+    public void testCapacity(int capacity) {
+        int expected = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+        assertThat(new SimpleSpscQueue<>(capacity).capacity()).isEqualTo(expected);
+        assertThat(new SimpleMpscQueue<>(capacity).capacity()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE })
+    @DisplayName("Invalid capacity")
+    public void testInvalidCapacity(int capacity) {
+        assertThatThrownBy(() -> new SimpleSpscQueue<>(capacity)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleMpscQueue<>(capacity)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void testSingleThread(AbstractSimpleQueue<String> queue) {
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.offer("A")).isTrue();
+        assertThat(queue.offer("B")).isTrue();
+        assertThat(queue.offer("C")).isTrue();
+        assertThat(queue.offer("D")).isTrue();
+        assertThat(queue.offer("E")).isFalse();
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.poll()).isEqualTo("A");
+        assertThat(queue.offer("E")).isTrue();
+        SimpleList<String> target = new SimpleList<>();
+        assertThat(queue.drainTo(target, 2)).isEqualTo(2);
+        assertThat(target.toArray()).containsExactly("B", "C");
+        assertThat(target.capacity()).isEqualTo(2);
+        assertThat(queue.drainTo(target)).isEqualTo(2);
+        assertThat(target.toArray()).containsExactly("B", "C", "D", "E");
+        assertThat(queue.drainTo(target)).isEqualTo(0);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> queue.drainTo(target, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("Single producer / single consumer")
+    public class Spsc {
+
+        @Test
+        @DisplayName("Offer/poll/drainTo in one thread")
+        public void testSingleThread() {
+            SimpleQueueTest.this.testSingleThread(new SimpleSpscQueue<>(4));
+        }
+
+        @Test
+        @Timeout(30)
+        @DisplayName("Elements are received in offer order")
+        public void testConcurrent() throws Exception {
+            int total = 1_000_000;
+            SimpleSpscQueue<Integer> queue = new SimpleSpscQueue<>(1024);
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < total; i++) {
+                    while (!queue.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producer.start();
+            SimpleList<Integer> received = new SimpleList<>(total, 1);
+            while (received.size() < total) {
+                if (queue.drainTo(received, 100) == 0) {
+                    Thread.yield();
+                }
+            }
+            producer.join();
+            for (int i = 0; i < total; i++) {
+                assertThat(received.get(i)).isEqualTo(i);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi producer / single consumer")
+    public class Mpsc {
+
+        @Test
+        @DisplayName("Offer/poll/drainTo in one thread")
+        public void testSingleThread() {
+            SimpleQueueTest.this.testSingleThread(new SimpleMpscQueue<>(4));
+        }
+
+        @Test
+        @Timeout(30)
+        @DisplayName("Every element is received once and in per producer order")
+        public void testConcurrent() throws Exception {
+            int producers = 4;
+            int perProducer = 100_000;
+            SimpleMpscQueue<long[]> queue = new SimpleMpscQueue<>(256);
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                executor.execute(() -> {
+                    for (long i = 0; i < perProducer; i++) {
+                        long[] element = new long[] {producer, i};
+                        while (!queue.offer(element)) {
+                            Thread.yield();
+                        }
+                    }
+                });
+            }
+            SimpleList<long[]> received = new SimpleList<>();
+            long[] next = new long[producers];
+            int total = producers * perProducer;
+            int polled = 0;
+            while (polled < total) {
+                long[] single = queue.poll();
+                if (single != null) {
+                    received.add(single);
+                }
+                if (queue.drainTo(received, 64) == 0) {
+                    Thread.yield();
+                }
+                for (; polled < received.size(); polled++) {
+                    long[] element = received.get(polled);
+                    assertThat(element[1]).isEqualTo(next[(int) element[0]]);
+                    next[(int) element[0]]++;
+                }
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(next).containsOnly(perProducer);
+            assertThat(queue.isEmpty()).isTrue();
+        }
+    }
+
+}
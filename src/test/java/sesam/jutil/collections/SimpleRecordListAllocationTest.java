@@ -0,0 +1,120 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Allocation regression tests of {@link SimpleRecordList} hot paths. <br />
+ *
+ * <p>Measured like {@link SimpleListAllocationTest}. Component values are outside of
+ * boxing caches, so a boxed component would allocate once per operation and exceed
+ * {@link #SLACK} by far.</p>
+ */
+public class SimpleRecordListAllocationTest {
+
+    private static final int OPERATIONS = 100_000;
+
+    /**
+     * Tolerance for measurement noise, far below one byte per operation.
+     */
+    private static final long SLACK = 1024;
+
+    private static ThreadMXBean threads;
+
+    private static Sample last;
+
+    private int sink;
+
+    public record Sample(int id, long time, double value, boolean flag, String name) {
+    }
+
+    @BeforeAll
+    public static void setUp() {
+        threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long allocated(Runnable scenario) {
+        scenario.run();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        scenario.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static Sample sample(int i) {
+        return new Sample(1_000_000 + i, 1_000_000_000_000L * i, i + 0.5, i % 2 == 0, "A");
+    }
+
+    private static Sample[] samples() {
+        Sample[] samples = new Sample[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            samples[i] = sample(i);
+        }
+        return samples;
+    }
+
+    private static SimpleRecordList<Sample> filled(Sample[] samples) {
+        SimpleRecordList<Sample> list = new SimpleRecordList<>(Sample.class, 2 * OPERATIONS, 1);
+        for (Sample sample : samples) {
+            list.add(sample);
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("Steady state add does not box components")
+    public void testAdd() {
+        Sample[] samples = samples();
+        SimpleRecordList<Sample> list = new SimpleRecordList<>(Sample.class, 4 * OPERATIONS, 1);
+        long bytes = allocated(() -> {
+            for (Sample sample : samples) {
+                list.add(sample);
+            }
+        });
+        assertThat(bytes).isLessThanOrEqualTo(SLACK);
+    }
+
+    @Test
+    @DisplayName("indexOf compares columns without boxing and without record instances")
+    public void testIndexOf() {
+        SimpleRecordList<Sample> list = filled(samples());
+        Sample missing = sample(-1);
+        long bytes = allocated(() -> {
+            for (int i = 0; i < 10; i++) {
+                sink = sink + list.indexOf(missing);
+            }
+        });
+        assertThat(bytes).isLessThanOrEqualTo(SLACK);
+    }
+
+    @Test
+    @DisplayName("get allocates only the record instance")
+    public void testGet() {
+        SimpleRecordList<Sample> list = filled(samples());
+        long records = allocated(() -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                last = new Sample(i, i, i, false, null);
+            }
+        });
+        long bytes = allocated(() -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                last = list.get(i);
+            }
+        });
+        assertThat(bytes).isLessThanOrEqualTo(records + SLACK);
+    }
+
+}
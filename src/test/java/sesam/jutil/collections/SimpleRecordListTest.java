@@ -0,0 +1,111 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SimpleRecordListTest {
+
+    public record Tick(long ts, int id, double px, String venue) {
+    }
+
+    private record Empty() {
+    }
+
+    private record Mixed(boolean flag, char letter, byte small, short medium, float ratio, double value) {
+    }
+
+    private SimpleRecordList<Tick> ticks(int size) {
+        SimpleRecordList<Tick> list = new SimpleRecordList<>(Tick.class, 2, 3);
+        for (int i = 0; i < size; i++) {
+            list.add(new Tick(1000L + i, i, i / 2.0, i % 2 == 0 ? "A" : null));
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("Empty list")
+    public void testEmptyList() {
+        SimpleRecordList<Tick> list = new SimpleRecordList<>(Tick.class);
+        assertThat(list.size()).isEqualTo(0);
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.getType()).isEqualTo(Tick.class);
+        assertThat(list.longColumn("ts")).isEmpty();
+        assertThat(list.iterator().hasNext()).isFalse();
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Records are rebuilt on get")
+    public void testAddGet() {
+        SimpleRecordList<Tick> list = ticks(100);
+        assertThat(list.size()).isEqualTo(100);
+        assertThat(list.get(0)).isEqualTo(new Tick(1000L, 0, 0.0, "A"));
+        assertThat(list.get(99)).isEqualTo(new Tick(1099L, 99, 49.5, null));
+        List<Tick> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertThat(iterated).hasSize(100).element(57).isEqualTo(list.get(57));
+        assertThatThrownBy(() -> list.get(100)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.add(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Direct column access")
+    public void testColumns() {
+        SimpleRecordList<Tick> list = ticks(10);
+        assertThat(list.componentNames()).containsExactly("ts", "id", "px", "venue");
+        assertThat(list.longColumn("ts")[9]).isEqualTo(1009L);
+        assertThat(list.intColumn("id")[3]).isEqualTo(3);
+        assertThat(list.doubleColumn("px")[3]).isEqualTo(1.5);
+        assertThat(((String[]) list.column("venue"))[2]).isEqualTo("A");
+        assertThatThrownBy(() -> list.intColumn("ts")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> list.column("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Search and clear")
+    public void testSearchAndClear() {
+        SimpleRecordList<Tick> list = ticks(10);
+        assertThat(list.indexOf(new Tick(1005L, 5, 2.5, null))).isEqualTo(5);
+        assertThat(list.contains(new Tick(1005L, 5, 2.5, "A"))).isFalse();
+        assertThat(list.contains("A")).isFalse();
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.contains(new Tick(1005L, 5, 2.5, null))).isFalse();
+        list.add(new Tick(1L, 1, 1.0, "B"));
+        assertThat(list.get(0)).isEqualTo(new Tick(1L, 1, 1.0, "B"));
+    }
+
+    @Test
+    @DisplayName("Record without components and invalid initialisation")
+    public void testSpecialCases() {
+        SimpleRecordList<Empty> list = new SimpleRecordList<>(Empty.class);
+        list.add(new Empty());
+        assertThat(list.get(0)).isEqualTo(new Empty());
+        assertThatThrownBy(() -> new SimpleRecordList<>(Tick.class, 0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleRecordList<>(Tick.class, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("All primitive component types round trip and match")
+    public void testPrimitiveComponents() {
+        SimpleRecordList<Mixed> list = new SimpleRecordList<>(Mixed.class, 1, 1);
+        list.add(new Mixed(true, 'a', (byte) -1, (short) 300, 1.5f, Double.NaN));
+        list.add(new Mixed(false, 'b', (byte) 2, (short) -7, -0.0f, -0.0));
+        assertThat(list.get(0)).isEqualTo(new Mixed(true, 'a', (byte) -1, (short) 300, 1.5f, Double.NaN));
+        assertThat(list.get(1)).isEqualTo(new Mixed(false, 'b', (byte) 2, (short) -7, -0.0f, -0.0));
+        assertThat(list.indexOf(new Mixed(true, 'a', (byte) -1, (short) 300, 1.5f, Double.NaN))).isEqualTo(0);
+        assertThat(list.indexOf(new Mixed(false, 'b', (byte) 2, (short) -7, 0.0f, -0.0))).isEqualTo(-1);
+        assertThat(list.indexOf(new Mixed(false, 'b', (byte) 2, (short) -7, -0.0f, -0.0))).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,158 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleRingListTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { Integer.MIN_VALUE, -1, 0 })
+    @DisplayName("Invalid capacity")
+    public void testInvalidCapacity(int capacity) {
+        assertThatThrownBy(() -> new SimpleRingList<>(capacity)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleLongRingList(capacity)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleDoubleRingList(capacity)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Unsupported methods")
+    public void testUnsupported() {
+        SimpleRingList<String> list = new SimpleRingList<>(3);
+        assertThatThrownBy(() -> list.set(0, "A")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.add(0, "A")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.subList(0, 1)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Nested
+    @DisplayName("Object ring")
+    public class ObjectRing {
+
+        @Test
+        @DisplayName("Add until full")
+        public void testNotFull() {
+            SimpleRingList<String> list = new SimpleRingList<>(3);
+            assertThat(list.isEmpty()).isTrue();
+            assertThat(list.addAll(Collections.emptyList())).isFalse();
+            list.add("A");
+            list.add("B");
+            assertThat(list.size()).isEqualTo(2);
+            assertThat(list.capacity()).isEqualTo(3);
+            assertThat(list.isFull()).isFalse();
+            assertThat(list.get(0)).isEqualTo("A");
+            assertThat(list.get(1)).isEqualTo("B");
+            assertThatThrownBy(() -> list.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("Overwrite the oldest element")
+        public void testOverwrite() {
+            SimpleRingList<String> list = new SimpleRingList<>(3);
+            list.addAll(List.of("A", "B", "C", "D", "E"));
+            assertThat(list.isFull()).isTrue();
+            assertThat(list.size()).isEqualTo(3);
+            assertThat(list.get(0)).isEqualTo("C");
+            assertThat(list.get(2)).isEqualTo("E");
+            assertThat(list.toArray()).containsExactly("C", "D", "E");
+            assertThat(list.toArray(new String[0])).containsExactly("C", "D", "E");
+            assertThat(list.toArray(new String[5])).containsExactly("C", "D", "E", null, null);
+            assertThat(list.indexOf("D")).isEqualTo(1);
+            assertThat(list.lastIndexOf("E")).isEqualTo(2);
+            assertThat(list.contains("A")).isFalse();
+            assertThat(list.containsAll(List.of("C", "E"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Iteration from the oldest to the newest element")
+        public void testIteration() {
+            SimpleRingList<Integer> list = new SimpleRingList<>(4);
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+            Iterator<Integer> iterator = list.iterator();
+            assertThat(iterator).isInstanceOf(SimpleListIterator.class);
+            assertThat(iterator.next()).isEqualTo(6);
+            assertThat(iterator.next()).isEqualTo(7);
+            assertThat(iterator.next()).isEqualTo(8);
+            assertThat(iterator.next()).isEqualTo(9);
+            assertThat(iterator.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Clear")
+        public void testClear() {
+            SimpleRingList<String> list = new SimpleRingList<>(2);
+            list.addAll(List.of("A", "B", "C"));
+            list.clear();
+            assertThat(list.isEmpty()).isTrue();
+            assertThat(list.toArray()).isEmpty();
+            list.add("D");
+            assertThat(list.get(0)).isEqualTo("D");
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive rings")
+    public class PrimitiveRings {
+
+        @Test
+        @DisplayName("Long window statistics")
+        public void testLongWindow() {
+            SimpleLongRingList list = new SimpleLongRingList(4);
+            assertThat(list.sum()).isEqualTo(0L);
+            for (long i = 1; i <= 10; i++) {
+                list.add(i);
+            }
+            assertThat(list.size()).isEqualTo(4);
+            assertThat(list.isFull()).isTrue();
+            assertThat(list.toArray()).containsExactly(7, 8, 9, 10);
+            assertThat(list.get(0)).isEqualTo(7L);
+            assertThat(list.sum()).isEqualTo(34L);
+            assertThat(list.min()).isEqualTo(7L);
+            assertThat(list.max()).isEqualTo(10L);
+            assertThat(list.mean()).isEqualTo(8.5);
+            assertThat(list.countInRange(8, 10)).isEqualTo(2);
+            assertThat(list.indexOf(9)).isEqualTo(2);
+            assertThat(list.contains(6)).isFalse();
+            list.clear();
+            assertThat(list.isEmpty()).isTrue();
+            assertThatThrownBy(() -> list.min()).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        @DisplayName("Double window statistics")
+        public void testDoubleWindow() {
+            SimpleDoubleRingList list = new SimpleDoubleRingList(3);
+            list.add(1.0);
+            list.add(2.0);
+            assertThat(list.mean()).isEqualTo(1.5);
+            list.add(3.0);
+            list.add(4.0);
+            assertThat(list.capacity()).isEqualTo(3);
+            assertThat(list.toArray()).containsExactly(2.0, 3.0, 4.0);
+            assertThat(list.get(2)).isEqualTo(4.0);
+            assertThat(list.sum()).isEqualTo(9.0);
+            assertThat(list.min()).isEqualTo(2.0);
+            assertThat(list.max()).isEqualTo(4.0);
+            assertThat(list.countInRange(2.5, 10)).isEqualTo(2);
+            assertThat(list.contains(1.0)).isFalse();
+            assertThatThrownBy(() -> list.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleSortedListTest {
+
+    private static <E> List<E> toList(Iterator<E> iterator) {
+        List<E> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 128 })
+    @DisplayName("Lookups and iteration match sorted reference")
+    public void testReference(int tailCapacity) {
+        Random random = new Random(tailCapacity);
+        SimpleSortedList<Integer> list = new SimpleSortedList<>(Comparator.naturalOrder(), tailCapacity);
+        List<Integer> reference = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(2_000) * 2;
+            list.add(value);
+            reference.add(value);
+        }
+        Collections.sort(reference);
+        assertThat(list.size()).isEqualTo(5_000);
+        assertThat(list.runCount()).isLessThanOrEqualTo(32);
+        for (int probe = -1; probe < 4_002; probe += 7) {
+            int lower = Collections.binarySearch(reference, probe);
+            boolean present = lower >= 0;
+            assertThat(list.contains(probe)).isEqualTo(present);
+            assertThat(list.indexOf(probe)).isEqualTo(present ? reference.indexOf(probe) : -1);
+            Integer floor = null;
+            Integer ceiling = null;
+            for (Integer value : reference) {
+                if (value <= probe) {
+                    floor = value;
+                }
+                if (value >= probe && ceiling == null) {
+                    ceiling = value;
+                }
+            }
+            assertThat(list.floor(probe)).isEqualTo(floor);
+            assertThat(list.ceiling(probe)).isEqualTo(ceiling);
+        }
+        assertThat(toList(list.iterator())).isEqualTo(reference);
+        List<Integer> range = new ArrayList<>();
+        for (Integer value : reference) {
+            if (value >= 100 && value < 900) {
+                range.add(value);
+            }
+        }
+        assertThat(toList(list.range(100, 900))).isEqualTo(range);
+        list.compact();
+        assertThat(list.runCount()).isEqualTo(1);
+        assertThat(list.get(4_999)).isEqualTo(reference.get(4_999));
+        assertThat(list.get(0)).isEqualTo(reference.get(0));
+    }
+
+    @Test
+    @DisplayName("Equal elements keep insertion order")
+    public void testStable() {
+        SimpleSortedList<String> list = new SimpleSortedList<>(Comparator.comparing(String::length), 2);
+        list.addAll(List.of("bb", "a", "cc", "d", "ee", "f", "gg"));
+        assertThat(list).containsExactly("a", "d", "f", "bb", "cc", "ee", "gg");
+        assertThat(list.indexOf("xx")).isEqualTo(3);
+        assertThat(list.floor("xx")).isEqualTo("gg");
+        assertThat(list.ceiling("x")).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("Empty list, invalid arguments and clear")
+    public void testEmptyAndClear() {
+        SimpleSortedList<Integer> list = new SimpleSortedList<>();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.floor(1)).isNull();
+        assertThat(list.iterator().hasNext()).isFalse();
+        assertThatThrownBy(() -> list.iterator().next()).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.add(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> list.range(2, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleSortedList<Integer>(Comparator.naturalOrder(), 0)).isInstanceOf(IllegalArgumentException.class);
+        list.addAll(List.of(3, 1, 2));
+        list.clear();
+        assertThat(list.size()).isEqualTo(0);
+        assertThat(list.contains(1)).isFalse();
+        list.add(5);
+        assertThat(list.get(0)).isEqualTo(5);
+    }
+
+}
@@ -0,0 +1,136 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleStringListTest {
+
+    private static final List<String> VALUES = List.of(
+            "", "A", "hello", "déjà vu", "€ 100", "smile 😀", "é€😀x");
+
+    private SimpleStringList values() {
+        SimpleStringList list = new SimpleStringList(1, 1);
+        list.addAll(VALUES);
+        return list;
+    }
+
+    @Test
+    @DisplayName("Empty list")
+    public void testEmptyList() {
+        SimpleStringList list = new SimpleStringList();
+        assertThat(list.size()).isEqualTo(0);
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.byteSize()).isEqualTo(0);
+        assertThat(list.addAll(Collections.emptyList())).isFalse();
+        assertThat(list.indexOf("A")).isEqualTo(-1);
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Strings are stored as UTF-8 bytes")
+    public void testAddGet() {
+        SimpleStringList list = values();
+        assertThat(list.size()).isEqualTo(VALUES.size());
+        int bytes = 0;
+        for (int i = 0; i < VALUES.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(VALUES.get(i));
+            int length = VALUES.get(i).getBytes(StandardCharsets.UTF_8).length;
+            assertThat(list.byteLength(i)).isEqualTo(length);
+            bytes = bytes + length;
+        }
+        assertThat(list.byteSize()).isEqualTo(bytes);
+        List<String> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertThat(iterated).isEqualTo(VALUES);
+    }
+
+    @Test
+    @DisplayName("Unpaired surrogate is stored as question mark")
+    public void testUnpairedSurrogate() {
+        SimpleStringList list = new SimpleStringList();
+        list.add("a\uD83Db");
+        list.add(new StringBuilder("\uDE00"));
+        assertThat(list.get(0)).isEqualTo("a?b");
+        assertThat(list.get(1)).isEqualTo("?");
+        assertThat(list.equals(0, "a?b")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Many elements")
+    public void testManyElements() {
+        SimpleStringList list = new SimpleStringList();
+        for (int i = 0; i < 10_000; i++) {
+            list.add("value-" + i);
+        }
+        assertThat(list.get(9_999)).isEqualTo("value-9999");
+        assertThat(list.indexOf("value-5000")).isEqualTo(5000);
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.contains("value-1")).isFalse();
+    }
+
+    @Nested
+    @DisplayName("Comparisons")
+    public class Comparisons {
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, 1, 2, 3, 4, 5, 6 })
+        @DisplayName("Equals and startsWith agree with String methods")
+        public void testCharSequence(int index) {
+            SimpleStringList list = values();
+            String value = VALUES.get(index);
+            for (String other : VALUES) {
+                assertThat(list.equals(index, other)).isEqualTo(value.equals(other));
+                assertThat(list.equals(index, new StringBuilder(other))).isEqualTo(value.equals(other));
+                assertThat(list.startsWith(index, other)).isEqualTo(value.startsWith(other));
+            }
+            for (int i = 0; i <= value.length(); i++) {
+                assertThat(list.startsWith(index, value.substring(0, i))).isTrue();
+            }
+            assertThat(list.equals(index, value + "x")).isFalse();
+            assertThat(list.startsWith(index, value + "x")).isFalse();
+            assertThat(list.indexOf(value)).isEqualTo(index);
+            assertThat(list.contains(value)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Byte slice comparisons")
+        public void testByteSlices() {
+            SimpleStringList list = values();
+            byte[] bytes = "xx€ 100yy".getBytes(StandardCharsets.UTF_8);
+            assertThat(list.equals(4, bytes, 2, bytes.length - 2)).isTrue();
+            assertThat(list.equals(4, bytes, 2, bytes.length - 1)).isFalse();
+            assertThat(list.startsWith(4, bytes, 2, 5)).isTrue();
+            assertThat(list.startsWith(3, bytes, 2, 5)).isFalse();
+            assertThat(list.startsWith(1, bytes, 0, 5)).isFalse();
+            assertThat(list.indexOf(bytes, 2, bytes.length - 2)).isEqualTo(4);
+            assertThat(list.indexOf(bytes, 0, 1)).isEqualTo(-1);
+            assertThatThrownBy(() -> list.indexOf(bytes, 0, bytes.length + 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("Invalid index")
+        public void testInvalidIndex() {
+            SimpleStringList list = values();
+            assertThatThrownBy(() -> list.equals(7, "")).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> list.startsWith(-1, "")).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> list.byteLength(7)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/**
+ *  SPDX-License-Identifier: GPL-3.0-only
+ *  SPDX-FileCopyrightText: © 2021 Sergej Samsonow <https://github.com/sergej-samsonow/sesam-jutil/issues>
+ */
+package sesam.jutil.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SimpleTopKTest {
+
+    @Test
+    @DisplayName("Keeps the k largest elements")
+    public void testTopK() {
+        Random random = new Random(13);
+        SimpleTopK<Integer> top = new SimpleTopK<>(10, Comparator.naturalOrder());
+        List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt();
+            all.add(value);
+            top.add(value);
+        }
+        all.sort(Comparator.reverseOrder());
+        assertThat(top.size()).isEqualTo(10);
+        assertThat(top.toList()).isEqualTo(all.subList(0, 10));
+        assertThat(top.toList().capacity()).isEqualTo(10);
+        assertThat(top.threshold()).isEqualTo(all.get(9));
+        assertThat(top.add(Integer.MIN_VALUE)).isFalse();
+        top.clear();
+        assertThat(top.size()).isEqualTo(0);
+        assertThatThrownBy(() -> top.threshold()).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> new SimpleTopK<Integer>(0, Comparator.naturalOrder())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Fewer elements than k and ties")
+    public void testTies() {
+        SimpleTopK<String> top = new SimpleTopK<>(2, Comparator.comparingInt(String::length));
+        top.add("bb");
+        assertThat(top.toList()).containsExactly("bb");
+        top.add("a");
+        top.add("cc");
+        assertThat(top.toList()).containsExactlyInAnyOrder("bb", "cc");
+        assertThat(top.add("dd")).isFalse();
+        assertThat(top.add("eee")).isTrue();
+        assertThat(top.toList()).hasSize(2).startsWith("eee");
+    }
+
+    @Test
+    @DisplayName("Attached list is consumed incrementally")
+    public void testAttach() {
+        SimpleTopK<Integer> top = new SimpleTopK<>(3, Comparator.naturalOrder());
+        assertThatThrownBy(() -> top.update()).isInstanceOf(IllegalStateException.class);
+        SimpleList<Integer> samples = new SimpleList<>();
+        samples.addAll(new Integer[] { 5, 1, 9 });
+        assertThat(top.attach(samples).update()).isEqualTo(3);
+        assertThat(top.update()).isEqualTo(0);
+        samples.addAll(new Integer[] { 7, 2, 11 });
+        assertThat(top.update()).isEqualTo(3);
+        assertThat(top.toList()).containsExactly(11, 9, 7);
+        SimpleList<Integer> more = new SimpleList<>();
+        more.add(8);
+        top.addAll(more);
+        assertThat(top.toList()).containsExactly(11, 9, 8);
+        samples.clear();
+        assertThatThrownBy(() -> top.update()).isInstanceOf(IllegalStateException.class);
+    }
+
+}